@@ -0,0 +1,61 @@
+package graph.bench;
+
+import graph.GraphAdjacencyList;
+
+public class EdgeList {
+    private final String shape;
+    private final int vertexCount;
+    private final int[] sources;
+    private final int[] destinations;
+    private final int[] weights;
+
+    EdgeList(String shape, int vertexCount, int[] sources, int[] destinations, int[] weights) {
+        this.shape = shape;
+        this.vertexCount = vertexCount;
+        this.sources = sources;
+        this.destinations = destinations;
+        this.weights = weights;
+    }
+
+    public String getShape() {
+        return this.shape;
+    }
+
+    public int getVertexCount() {
+        return this.vertexCount;
+    }
+
+    public int getEdgeCount() {
+        return this.sources.length;
+    }
+
+    public int getSource(int edge) {
+        return this.sources[edge];
+    }
+
+    public int getDestination(int edge) {
+        return this.destinations[edge];
+    }
+
+    public int getWeight(int edge) {
+        return this.weights[edge];
+    }
+
+    public GraphAdjacencyList<Integer> vertices() {
+        GraphAdjacencyList<Integer> graph = new GraphAdjacencyList<>(false, this.vertexCount);
+        for (int i = 0; i < this.vertexCount; i++) {
+            graph.addVertex(i);
+        }
+        return graph;
+    }
+
+    public GraphAdjacencyList<Integer> build() {
+        GraphAdjacencyList<Integer> graph = vertices();
+        addTo(graph);
+        return graph;
+    }
+
+    public void addTo(GraphAdjacencyList<Integer> graph) {
+        graph.addEdges(this.sources, this.destinations, this.weights);
+    }
+}
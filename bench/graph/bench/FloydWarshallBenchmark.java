@@ -0,0 +1,33 @@
+package graph.bench;
+
+import graph.AllPairsShortestPaths;
+import graph.GraphAdjacencyList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FloydWarshallBenchmark {
+    @Param({"random", "grid", "power-law", "path"})
+    public String shape;
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private GraphAdjacencyList<Integer> graph;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.graph = GraphGenerator.generate(this.shape, this.size, 1).build();
+    }
+
+    @Benchmark
+    public AllPairsShortestPaths<Integer> floydWarshall() {
+        return this.graph.allPairsShortestPaths();
+    }
+}
@@ -0,0 +1,29 @@
+package graph.bench;
+
+import graph.GraphAdjacencyList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+
+@State(Scope.Benchmark)
+public class GeneratedGraph {
+    @Param({"random", "grid", "power-law", "path"})
+    public String shape;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    EdgeList edges;
+    GraphAdjacencyList<Integer> graph;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.edges = GraphGenerator.generate(this.shape, this.size, 1);
+        this.graph = this.edges.build();
+        this.graph.freeze().reverse();
+    }
+
+    int randomVertex(Random random) {
+        return random.nextInt(this.edges.getVertexCount());
+    }
+}
@@ -0,0 +1,132 @@
+package graph.bench;
+
+import java.util.*;
+
+public final class GraphGenerator {
+    private static final int MAX_WEIGHT = 100;
+
+    private GraphGenerator() {
+    }
+
+    public static EdgeList generate(String shape, int vertices, long seed) {
+        switch (shape) {
+            case "random":
+                return random(vertices, 8, seed);
+            case "grid":
+                return grid(vertices, seed);
+            case "power-law":
+                return powerLaw(vertices, 4, seed);
+            case "path":
+                return path(vertices, seed);
+            default:
+                throw new IllegalArgumentException("Unknown graph shape: " + shape);
+        }
+    }
+
+    public static EdgeList random(int vertices, int averageDegree, long seed) {
+        Random random = new Random(seed);
+        Builder builder = new Builder("random", vertices, random);
+        long target = (long) vertices * averageDegree / 2;
+
+        while (builder.size() < target) {
+            builder.add(random.nextInt(vertices), random.nextInt(vertices));
+        }
+
+        return builder.build();
+    }
+
+    public static EdgeList grid(int vertices, long seed) {
+        int side = Math.max(1, (int) Math.sqrt(vertices));
+        Builder builder = new Builder("grid", side * side, new Random(seed));
+
+        for (int i = 0; i < side; i++) {
+            for (int j = 0; j < side; j++) {
+                int v = i * side + j;
+                if (j + 1 < side) {
+                    builder.add(v, v + 1);
+                }
+                if (i + 1 < side) {
+                    builder.add(v, v + side);
+                }
+            }
+        }
+
+        return builder.build();
+    }
+
+    public static EdgeList powerLaw(int vertices, int edgesPerVertex, long seed) {
+        Random random = new Random(seed);
+        Builder builder = new Builder("power-law", vertices, random);
+        int[] endpoints = new int[2 * vertices * edgesPerVertex + 2];
+        int count = 0;
+
+        for (int v = 1; v < vertices; v++) {
+            int links = Math.min(v, edgesPerVertex);
+            for (int i = 0; i < links; i++) {
+                int u = count == 0 ? 0 : endpoints[random.nextInt(count)];
+                if (builder.add(v, u)) {
+                    endpoints[count++] = u;
+                    endpoints[count++] = v;
+                }
+            }
+        }
+
+        return builder.build();
+    }
+
+    public static EdgeList path(int vertices, long seed) {
+        Builder builder = new Builder("path", vertices, new Random(seed));
+
+        for (int v = 1; v < vertices; v++) {
+            builder.add(v - 1, v);
+        }
+
+        return builder.build();
+    }
+
+    private static class Builder {
+        private final String shape;
+        private final int vertices;
+        private final Random random;
+        private final HashSet<Long> seen;
+        private int[] sources;
+        private int[] destinations;
+        private int size;
+
+        Builder(String shape, int vertices, Random random) {
+            this.shape = shape;
+            this.vertices = vertices;
+            this.random = random;
+            this.seen = new HashSet<>();
+            this.sources = new int[16];
+            this.destinations = new int[16];
+        }
+
+        int size() {
+            return this.size;
+        }
+
+        boolean add(int u, int v) {
+            if (u == v || !this.seen.add(((long) Math.min(u, v) << 32) | Math.max(u, v))) {
+                return false;
+            }
+            if (this.size == this.sources.length) {
+                this.sources = Arrays.copyOf(this.sources, this.size * 2);
+                this.destinations = Arrays.copyOf(this.destinations, this.size * 2);
+            }
+            this.sources[this.size] = u;
+            this.destinations[this.size] = v;
+            this.size++;
+            return true;
+        }
+
+        EdgeList build() {
+            int[] weights = new int[this.size];
+            for (int i = 0; i < this.size; i++) {
+                weights[i] = 1 + this.random.nextInt(MAX_WEIGHT);
+            }
+            return new EdgeList(this.shape, this.vertices, Arrays.copyOf(this.sources, this.size),
+                    Arrays.copyOf(this.destinations, this.size), weights);
+        }
+    }
+}
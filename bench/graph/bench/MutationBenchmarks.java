@@ -0,0 +1,90 @@
+package graph.bench;
+
+import graph.GraphAdjacencyList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MutationBenchmarks {
+    private static final int MAX_REMOVED_VERTICES = 1000;
+
+    @State(Scope.Thread)
+    public static class EmptyGraph {
+        GraphAdjacencyList<Integer> graph;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            this.graph = new GraphAdjacencyList<>(false);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class VerticesOnly {
+        GraphAdjacencyList<Integer> graph;
+
+        @Setup(Level.Invocation)
+        public void setUp(GeneratedGraph generated) {
+            this.graph = generated.edges.vertices();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FullGraph {
+        final Random random = new Random(42);
+        GraphAdjacencyList<Integer> graph;
+
+        @Setup(Level.Invocation)
+        public void setUp(GeneratedGraph generated) {
+            this.graph = generated.edges.build();
+        }
+    }
+
+    @Benchmark
+    public GraphAdjacencyList<Integer> addVertex(GeneratedGraph generated, EmptyGraph state) {
+        for (int i = 0; i < generated.edges.getVertexCount(); i++) {
+            state.graph.addVertex(i);
+        }
+        return state.graph;
+    }
+
+    @Benchmark
+    public GraphAdjacencyList<Integer> addEdge(GeneratedGraph generated, VerticesOnly state) {
+        EdgeList edges = generated.edges;
+        for (int e = 0; e < edges.getEdgeCount(); e++) {
+            state.graph.addEdge(edges.getSource(e), edges.getDestination(e), edges.getWeight(e));
+        }
+        return state.graph;
+    }
+
+    @Benchmark
+    public GraphAdjacencyList<Integer> addEdges(GeneratedGraph generated, VerticesOnly state) {
+        generated.edges.addTo(state.graph);
+        return state.graph;
+    }
+
+    @Benchmark
+    public GraphAdjacencyList<Integer> removeEdge(GeneratedGraph generated, FullGraph state) {
+        EdgeList edges = generated.edges;
+        for (int e = 0; e < edges.getEdgeCount(); e++) {
+            state.graph.removeEdge(edges.getSource(e), edges.getDestination(e));
+        }
+        return state.graph;
+    }
+
+    @Benchmark
+    public GraphAdjacencyList<Integer> removeVertex(GeneratedGraph generated, FullGraph state) {
+        int vertices = generated.edges.getVertexCount();
+        int removed = Math.min(MAX_REMOVED_VERTICES, vertices);
+        int offset = state.random.nextInt(vertices - removed + 1);
+        for (int i = 0; i < removed; i++) {
+            state.graph.removeVertex(offset + i);
+        }
+        return state.graph;
+    }
+}
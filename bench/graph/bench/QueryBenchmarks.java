@@ -0,0 +1,81 @@
+package graph.bench;
+
+import graph.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QueryBenchmarks {
+    private static final int HOT_SOURCES = 16;
+    private static final int BATCH_SOURCES = 64;
+
+    private Random random;
+    private ShortestPathCache<Integer> cache;
+
+    @Setup(Level.Trial)
+    public void setUp(GeneratedGraph generated) {
+        this.random = new Random(42);
+        this.cache = new ShortestPathCache<>(generated.graph, HOT_SOURCES);
+    }
+
+    @Benchmark
+    public BFSResult<Integer> breadthFirstSearch(GeneratedGraph generated) {
+        return generated.graph.breadthFirstSearch(generated.randomVertex(this.random));
+    }
+
+    @Benchmark
+    public BFSResult<Integer> parallelBreadthFirstSearch(GeneratedGraph generated) {
+        return generated.graph.parallelBreadthFirstSearch(generated.randomVertex(this.random));
+    }
+
+    @Benchmark
+    public MultiSourceBFSResult<Integer> multiSourceBreadthFirstSearch(GeneratedGraph generated) {
+        Set<Integer> sources = new HashSet<>();
+        while (sources.size() < Math.min(BATCH_SOURCES, generated.edges.getVertexCount())) {
+            sources.add(generated.randomVertex(this.random));
+        }
+        return generated.graph.multiSourceBreadthFirstSearch(sources);
+    }
+
+    @Benchmark
+    public DFSResult<Integer> depthFirstSearch(GeneratedGraph generated) {
+        return generated.graph.depthFirstSearch(generated.randomVertex(this.random));
+    }
+
+    @Benchmark
+    public ShortestPathTree<Integer> dijkstra(GeneratedGraph generated) {
+        return generated.graph.shortestPaths(generated.randomVertex(this.random));
+    }
+
+    @Benchmark
+    public ShortestPathTree<Integer> cachedDijkstra(GeneratedGraph generated) {
+        return this.cache.shortestPaths(this.random.nextInt(Math.min(HOT_SOURCES, generated.edges.getVertexCount())));
+    }
+
+    @Benchmark
+    public ShortestPathTree<Integer> deltaStepping(GeneratedGraph generated) {
+        return generated.graph.parallelShortestPaths(generated.randomVertex(this.random));
+    }
+
+    @Benchmark
+    public Path<Integer> shortestPath(GeneratedGraph generated) {
+        return generated.graph.shortestPath(generated.randomVertex(this.random), generated.randomVertex(this.random));
+    }
+
+    @Benchmark
+    public SpanningTree<Integer> prim(GeneratedGraph generated) {
+        return generated.graph.minimumSpanningTree(generated.randomVertex(this.random));
+    }
+
+    @Benchmark
+    public MinimumSpanningForest<Integer> spanningForest(GeneratedGraph generated) {
+        return generated.graph.minimumSpanningForest();
+    }
+}
@@ -0,0 +1,151 @@
+package graph.bench;
+
+import graph.GraphAdjacencyList;
+import graph.GraphQueryService;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class QueryLoadGenerator {
+    private final GraphQueryService<Integer> service;
+    private final String operation;
+    private final int vertexCount;
+
+    QueryLoadGenerator(GraphQueryService<Integer> service, String operation, int vertexCount) {
+        this.service = service;
+        this.operation = operation;
+        this.vertexCount = vertexCount;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String shape = "random";
+        String operation = "shortestPath";
+        int size = 100000;
+        int clients = 1000;
+        int queries = 20000;
+        int concurrency = Runtime.getRuntime().availableProcessors() * 4;
+        long admissionMillis = 1000;
+        long timeoutMillis = 0;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--shape":
+                    shape = args[i + 1];
+                    break;
+                case "--operation":
+                    operation = args[i + 1];
+                    break;
+                case "--size":
+                    size = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--clients":
+                    clients = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--queries":
+                    queries = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--concurrency":
+                    concurrency = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--admission":
+                    admissionMillis = Long.parseLong(args[i + 1]);
+                    break;
+                case "--timeout":
+                    timeoutMillis = Long.parseLong(args[i + 1]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        EdgeList edges = GraphGenerator.generate(shape, size, 1);
+        GraphAdjacencyList<Integer> graph = edges.build();
+        try (GraphQueryService<Integer> service = new GraphQueryService<>(graph.freeze(), concurrency,
+                admissionMillis, timeoutMillis, TimeUnit.MILLISECONDS)) {
+            QueryLoadGenerator generator = new QueryLoadGenerator(service, operation, edges.getVertexCount());
+            generator.run(clients, Math.max(clients, queries / 10));
+            generator.report(shape, edges, clients, concurrency, generator.run(clients, queries));
+        }
+    }
+
+    Result run(int clients, int queries) throws InterruptedException {
+        long[] latencies = new long[queries];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        Thread[] threads = new Thread[clients];
+
+        long start = System.nanoTime();
+        for (int c = 0; c < clients; c++) {
+            Random random = new Random(c);
+            threads[c] = new Thread(() -> {
+                for (int q = next.getAndIncrement(); q < queries; q = next.getAndIncrement()) {
+                    long issued = System.nanoTime();
+                    try {
+                        query(random).get();
+                    } catch (ExecutionException e) {
+                        failed.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    latencies[q] = System.nanoTime() - issued;
+                }
+            });
+            threads[c].setDaemon(true);
+            threads[c].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        return new Result(latencies, failed.get(), System.nanoTime() - start);
+    }
+
+    private CompletableFuture<?> query(Random random) {
+        int source = random.nextInt(this.vertexCount);
+        switch (this.operation) {
+            case "BFS":
+                return this.service.breadthFirstSearch(source);
+            case "dijkstra":
+                return this.service.shortestPaths(source);
+            case "shortestPath":
+                return this.service.shortestPath(source, random.nextInt(this.vertexCount));
+            default:
+                throw new IllegalArgumentException("Unknown operation: " + this.operation);
+        }
+    }
+
+    private void report(String shape, EdgeList edges, int clients, int concurrency, Result result) {
+        System.out.printf(Locale.ROOT, "%s on %s (%d vertices, %d edges), %s threads%n", this.operation, shape,
+                edges.getVertexCount(), edges.getEdgeCount(), this.service.usesVirtualThreads() ? "virtual" : "platform");
+        System.out.printf(Locale.ROOT, "clients=%d concurrency=%d queries=%d failed=%d rejected=%d timedOut=%d%n",
+                clients, concurrency, result.latencies.length, result.failed, this.service.getRejectedCount(),
+                this.service.getTimedOutCount());
+        System.out.printf(Locale.ROOT, "throughput %.1f queries/s%n",
+                result.latencies.length * 1e9 / result.elapsedNanos);
+        System.out.printf(Locale.ROOT, "latency p50 %.1f us, p99 %.1f us, p999 %.1f us, max %.1f us%n",
+                result.percentile(0.5) / 1e3, result.percentile(0.99) / 1e3, result.percentile(0.999) / 1e3,
+                result.percentile(1) / 1e3);
+    }
+
+    static final class Result {
+        private final long[] latencies;
+        private final int failed;
+        private final long elapsedNanos;
+
+        Result(long[] latencies, int failed, long elapsedNanos) {
+            this.latencies = latencies.clone();
+            this.failed = failed;
+            this.elapsedNanos = elapsedNanos;
+            Arrays.sort(this.latencies);
+        }
+
+        long percentile(double percentile) {
+            int rank = (int) Math.ceil(percentile * this.latencies.length) - 1;
+            return this.latencies[Math.max(0, Math.min(this.latencies.length - 1, rank))];
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package graph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+public abstract class AbstractGraph<T> implements IGraph<T> {
+
+    public abstract IndexedGraph<T> freeze();
+
+    public abstract List<Vertex<T>> getVertices();
+
+    @Override
+    public BFSResult<T> breadthFirstSearch(T source) {
+        IndexedGraph<T> graph = freeze();
+        return BreadthFirstSearch.run(graph, graph.indexOf(source));
+    }
+
+    @Override
+    public BFSResult<T> parallelBreadthFirstSearch(T source) {
+        IndexedGraph<T> graph = freeze();
+        return ParallelBreadthFirstSearch.run(graph, graph.indexOf(source));
+    }
+
+    @Override
+    public MultiSourceBFSResult<T> multiSourceBreadthFirstSearch(Collection<? extends T> sources) {
+        return multiSourceBreadthFirstSearch(sources, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public MultiSourceBFSResult<T> multiSourceBreadthFirstSearch(Collection<? extends T> sources, int maxDepth) {
+        IndexedGraph<T> graph = freeze();
+        int[] ids = new int[sources.size()];
+        int i = 0;
+        for (T source : sources) {
+            ids[i++] = graph.indexOf(source);
+        }
+        return MultiSourceBreadthFirstSearch.run(graph, ids, maxDepth);
+    }
+
+    @Override
+    public DFSResult<T> depthFirstSearch(T source) {
+        IndexedGraph<T> graph = freeze();
+        return DepthFirstSearch.run(graph, graph.indexOf(source));
+    }
+
+    @Override
+    public DFSResult<T> depthFirstSearch() {
+        return DepthFirstSearch.runAll(freeze());
+    }
+
+    @Override
+    public ShortestPathTree<T> shortestPaths(T source) {
+        IndexedGraph<T> graph = freeze();
+        return Dijkstra.run(graph, graph.indexOf(source));
+    }
+
+    @Override
+    public ShortestPathTree<T> parallelShortestPaths(T source) {
+        IndexedGraph<T> graph = freeze();
+        return DeltaStepping.run(graph, graph.indexOf(source));
+    }
+
+    @Override
+    public ShortestPathTree<T> parallelShortestPaths(T source, int delta) {
+        IndexedGraph<T> graph = freeze();
+        return DeltaStepping.run(graph, graph.indexOf(source), delta);
+    }
+
+    @Override
+    public SpanningTree<T> minimumSpanningTree(T source) {
+        IndexedGraph<T> graph = freeze();
+        return Prim.run(graph, graph.indexOf(source));
+    }
+
+    @Override
+    public MinimumSpanningForest<T> minimumSpanningForest() {
+        IndexedGraph<T> graph = freeze();
+        return ForkJoinPool.getCommonPoolParallelism() > 1 ? Boruvka.run(graph) : Kruskal.run(graph);
+    }
+
+    @Override
+    public Components<T> connectedComponents() {
+        return ConnectedComponents.run(freeze());
+    }
+
+    @Override
+    public Components<T> stronglyConnectedComponents() {
+        IndexedGraph<T> graph = freeze();
+        return graph.isDirected() ? StronglyConnectedComponents.run(graph) : ConnectedComponents.run(graph);
+    }
+
+    @Override
+    public Path<T> shortestPath(T source, T target) {
+        IndexedGraph<T> graph = freeze();
+        return PointToPointSearch.bidirectional(graph, graph.indexOf(source), graph.indexOf(target));
+    }
+
+    @Override
+    public Path<T> shortestPath(T source, T target, Heuristic<T> heuristic) {
+        IndexedGraph<T> graph = freeze();
+        return PointToPointSearch.aStar(graph, graph.indexOf(source), graph.indexOf(target), heuristic);
+    }
+
+    @Override
+    public AllPairsShortestPaths<T> allPairsShortestPaths() {
+        return FloydWarshall.run(freeze());
+    }
+
+    @Override
+    public void BFS(T source) {
+        BFSResult<T> result = breadthFirstSearch(source);
+        List<Vertex<T>> vertices = getVertices();
+
+        for (int i = 0; i < vertices.size(); i++) {
+            Vertex<T> u = vertices.get(i);
+            int p = result.getParentById(i);
+            u.setDistance(result.getDistanceById(i));
+            u.setParent(p == -1 ? null : vertices.get(p));
+            u.setMark(result.getDistanceById(i) == Integer.MAX_VALUE ? Vertex.WHITE : Vertex.BLACK);
+        }
+    }
+
+    @Override
+    public void DFS(T source) {
+        DFSResult<T> result = depthFirstSearch(source);
+        List<Vertex<T>> vertices = getVertices();
+
+        for (int i = 0; i < vertices.size(); i++) {
+            Vertex<T> u = vertices.get(i);
+            int p = result.getParentById(i);
+            u.setParent(p == -1 ? null : vertices.get(p));
+            if (result.getDiscoveryTimeById(i) == 0) {
+                u.setMark(Vertex.WHITE);
+            } else {
+                u.setMark(Vertex.BLACK);
+                u.setDiscoveryTime(result.getDiscoveryTimeById(i));
+                u.setFinishingTime(result.getFinishingTimeById(i));
+            }
+        }
+    }
+
+    @Override
+    public Map<Vertex<T>, Vertex<T>> dijkstra(T source) {
+        ShortestPathTree<T> result = shortestPaths(source);
+        List<Vertex<T>> vertices = getVertices();
+        Map<Vertex<T>, Vertex<T>> previous = new HashMap<>();
+
+        for (int i = 0; i < vertices.size(); i++) {
+            Vertex<T> u = vertices.get(i);
+            int p = result.getParentById(i);
+            u.setDistance(result.getDistanceById(i));
+            previous.put(u, p == -1 ? null : vertices.get(p));
+        }
+
+        return previous;
+    }
+
+    @Override
+    public Vertex<T>[][] floydWarshall() {
+        List<Vertex<T>> vertices = getVertices();
+        int n = vertices.size();
+        int[] prev = FloydWarshall.predecessors(freeze());
+
+        @SuppressWarnings("unchecked")
+        Vertex<T>[][] result = new Vertex[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                result[i][j] = prev[i * n + j] == -1 ? null : vertices.get(prev[i * n + j]);
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public void prim(T source) {
+        SpanningTree<T> result = minimumSpanningTree(source);
+        List<Vertex<T>> vertices = getVertices();
+
+        for (int i = 0; i < vertices.size(); i++) {
+            Vertex<T> u = vertices.get(i);
+            int p = result.getParentById(i);
+            u.setDistance(result.getWeightById(i));
+            u.setParent(p == -1 ? null : vertices.get(p));
+            u.setMark(result.getWeightById(i) == Integer.MAX_VALUE ? Vertex.WHITE : Vertex.BLACK);
+        }
+    }
+}
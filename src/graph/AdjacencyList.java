@@ -0,0 +1,175 @@
+package graph;
+
+import java.util.*;
+
+public final class AdjacencyList {
+    private static final int[] EMPTY = new int[0];
+    private static final int INDEX_THRESHOLD = 8;
+
+    private int[] targets;
+    private int[] weights;
+    private int size;
+    private int[] keys;
+    private int[] slots;
+    private int mask;
+
+    public AdjacencyList() {
+        this.targets = EMPTY;
+        this.weights = EMPTY;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public int target(int slot) {
+        return this.targets[slot];
+    }
+
+    public int weight(int slot) {
+        return this.weights[slot];
+    }
+
+    public void setWeight(int slot, int weight) {
+        this.weights[slot] = weight;
+    }
+
+    public boolean contains(int target) {
+        return indexOf(target) != -1;
+    }
+
+    public int indexOf(int target) {
+        if (this.keys == null) {
+            for (int i = 0; i < this.size; i++) {
+                if (this.targets[i] == target) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        for (int i = home(target); this.keys[i] != -1; i = (i + 1) & this.mask) {
+            if (this.keys[i] == target) {
+                return this.slots[i];
+            }
+        }
+        return -1;
+    }
+
+    public void add(int target, int weight) {
+        if (this.size == this.targets.length) {
+            ensureCapacity(Math.max(4, this.size * 2));
+        }
+
+        this.targets[this.size] = target;
+        this.weights[this.size] = weight;
+        this.size++;
+
+        if (this.keys != null) {
+            if (this.size * 2 > this.keys.length) {
+                buildIndex(this.keys.length * 2);
+            } else {
+                insertKey(target, this.size - 1);
+            }
+        } else if (this.size > INDEX_THRESHOLD) {
+            buildIndex(Integer.highestOneBit(this.size) << 2);
+        }
+    }
+
+    public boolean remove(int target) {
+        int slot = indexOf(target);
+        if (slot == -1) {
+            return false;
+        }
+
+        int last = this.size - 1;
+        if (this.keys != null) {
+            deleteKey(target);
+        }
+        if (slot != last) {
+            this.targets[slot] = this.targets[last];
+            this.weights[slot] = this.weights[last];
+            if (this.keys != null) {
+                this.slots[findKey(this.targets[slot])] = slot;
+            }
+        }
+        this.size--;
+
+        return true;
+    }
+
+    public void replace(int oldTarget, int newTarget) {
+        int slot = indexOf(oldTarget);
+        if (slot == -1) {
+            return;
+        }
+
+        this.targets[slot] = newTarget;
+        if (this.keys != null) {
+            deleteKey(oldTarget);
+            insertKey(newTarget, slot);
+        }
+    }
+
+    public void ensureCapacity(int capacity) {
+        if (capacity > this.targets.length) {
+            capacity = Math.max(capacity, Math.max(4, this.targets.length + (this.targets.length >> 1)));
+            this.targets = Arrays.copyOf(this.targets, capacity);
+            this.weights = Arrays.copyOf(this.weights, capacity);
+        }
+    }
+
+    public void clear() {
+        this.size = 0;
+        this.keys = null;
+        this.slots = null;
+    }
+
+    private int home(int target) {
+        int h = target * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & this.mask;
+    }
+
+    private int findKey(int target) {
+        int i = home(target);
+        while (this.keys[i] != target) {
+            i = (i + 1) & this.mask;
+        }
+        return i;
+    }
+
+    private void insertKey(int target, int slot) {
+        int i = home(target);
+        while (this.keys[i] != -1) {
+            i = (i + 1) & this.mask;
+        }
+        this.keys[i] = target;
+        this.slots[i] = slot;
+    }
+
+    private void deleteKey(int target) {
+        int i = findKey(target);
+
+        for (int j = (i + 1) & this.mask; this.keys[j] != -1; j = (j + 1) & this.mask) {
+            int k = home(this.keys[j]);
+            if (((j - k) & this.mask) >= ((j - i) & this.mask)) {
+                this.keys[i] = this.keys[j];
+                this.slots[i] = this.slots[j];
+                i = j;
+            }
+        }
+
+        this.keys[i] = -1;
+    }
+
+    private void buildIndex(int capacity) {
+        this.keys = new int[capacity];
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(this.keys, -1);
+
+        for (int i = 0; i < this.size; i++) {
+            insertKey(this.targets[i], i);
+        }
+    }
+}
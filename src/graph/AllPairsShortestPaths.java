@@ -0,0 +1,75 @@
+package graph;
+
+import java.util.*;
+
+public class AllPairsShortestPaths<T> {
+    private final IndexedGraph<T> graph;
+    private final int n;
+    private final int[] dist;
+    private final int[] next;
+
+    AllPairsShortestPaths(IndexedGraph<T> graph, int[] dist, int[] next) {
+        this.graph = graph;
+        this.n = graph.vertexCount();
+        this.dist = dist;
+        this.next = next;
+    }
+
+    public int size() {
+        return this.n;
+    }
+
+    public boolean isReachable(T source, T target) {
+        return getDistance(source, target) != Integer.MAX_VALUE;
+    }
+
+    public int getDistance(T source, T target) {
+        return this.dist[this.graph.indexOf(source) * this.n + this.graph.indexOf(target)];
+    }
+
+    public int getDistanceById(int source, int target) {
+        return this.dist[source * this.n + target];
+    }
+
+    public T getNextHop(T source, T target) {
+        int hop = this.next[this.graph.indexOf(source) * this.n + this.graph.indexOf(target)];
+        return hop == -1 ? null : this.graph.value(hop);
+    }
+
+    public int getNextHopById(int source, int target) {
+        return this.next[source * this.n + target];
+    }
+
+    public boolean hasNegativeCycle() {
+        for (int i = 0; i < this.n; i++) {
+            if (this.dist[i * this.n + i] < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public List<T> pathBetween(T source, T target) {
+        int s = this.graph.indexOf(source);
+        int t = this.graph.indexOf(target);
+
+        if (s == t) {
+            return Collections.singletonList(source);
+        }
+        if (this.next[s * this.n + t] == -1) {
+            return Collections.emptyList();
+        }
+
+        ArrayList<T> path = new ArrayList<>();
+        path.add(source);
+        for (int u = s; u != t; ) {
+            u = this.next[u * this.n + t];
+            if (u == -1 || path.size() > this.n) {
+                throw new IllegalStateException("Graph has a negative cycle");
+            }
+            path.add(this.graph.value(u));
+        }
+
+        return path;
+    }
+}
@@ -0,0 +1,26 @@
+package graph;
+
+public class BFSResult<T> extends SearchResult<T> {
+    private final int[] distance;
+
+    BFSResult(IndexedGraph<T> graph, int source, int[] distance, int[] parent) {
+        super(graph, source, parent);
+        this.distance = distance;
+    }
+
+    public boolean isReachable(T vertex) {
+        return this.distance[this.graph.indexOf(vertex)] != Integer.MAX_VALUE;
+    }
+
+    public int getDistance(T vertex) {
+        return this.distance[this.graph.indexOf(vertex)];
+    }
+
+    public int getDistanceById(int id) {
+        return this.distance[id];
+    }
+
+    public int[] getDistances() {
+        return this.distance.clone();
+    }
+}
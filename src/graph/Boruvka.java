@@ -0,0 +1,73 @@
+package graph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+public final class Boruvka {
+
+    private Boruvka() {
+    }
+
+    public static <T> MinimumSpanningForest<T> run(IndexedGraph<T> graph) {
+        return run(graph, ForkJoinPool.commonPool());
+    }
+
+    public static <T> MinimumSpanningForest<T> run(IndexedGraph<T> graph, ForkJoinPool pool) {
+        int n = graph.vertexCount();
+        int[][] edges = Kruskal.edges(graph);
+        int[] sources = edges[0];
+        int[] targets = edges[1];
+        int[] weights = edges[2];
+        DisjointSet components = new DisjointSet(n);
+        AtomicLongArray cheapest = new AtomicLongArray(n);
+        int[] chosen = new int[Math.max(0, n - 1)];
+        AtomicInteger count = new AtomicInteger();
+        int[] alive = IntStream.range(0, sources.length).toArray();
+
+        while (alive.length > 0) {
+            int[] current = alive;
+            pool.submit(() -> {
+                IntStream.range(0, n).parallel().forEach(v -> cheapest.set(v, Long.MAX_VALUE));
+                IntStream.of(current).parallel().forEach(e -> {
+                    int ru = components.find(sources[e]);
+                    int rv = components.find(targets[e]);
+                    if (ru != rv) {
+                        long key = Kruskal.key(weights[e], e);
+                        lower(cheapest, ru, key);
+                        lower(cheapest, rv, key);
+                    }
+                });
+                IntStream.range(0, n).parallel().forEach(v -> {
+                    long key = cheapest.get(v);
+                    if (key != Long.MAX_VALUE) {
+                        int e = (int) key;
+                        if (components.union(sources[e], targets[e])) {
+                            chosen[count.getAndIncrement()] = e;
+                        }
+                    }
+                });
+            }).join();
+
+            alive = pool.submit(() -> IntStream.of(current).parallel()
+                    .filter(e -> components.find(sources[e]) != components.find(targets[e]))
+                    .toArray()).join();
+            if (alive.length == current.length) {
+                break;
+            }
+        }
+
+        return Kruskal.forest(graph, edges, chosen, count.get());
+    }
+
+    private static void lower(AtomicLongArray cheapest, int vertex, long key) {
+        while (true) {
+            long old = cheapest.get(vertex);
+            if (key >= old || cheapest.compareAndSet(vertex, old, key)) {
+                return;
+            }
+        }
+    }
+}
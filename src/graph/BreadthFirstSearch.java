@@ -0,0 +1,60 @@
+package graph;
+
+import java.util.*;
+
+public final class BreadthFirstSearch {
+
+    private BreadthFirstSearch() {
+    }
+
+    public static <T> BFSResult<T> run(IndexedGraph<T> graph, int source) {
+        return run(graph, source, Cancellation.NONE);
+    }
+
+    static <T> BFSResult<T> run(IndexedGraph<T> graph, int source, Cancellation cancellation) {
+        GraphMetrics metrics = GraphMetrics.installed();
+        long start = Instrumentation.start(metrics);
+        int n = graph.vertexCount();
+        int[] distance = new int[n];
+        int[] parent = new int[n];
+        int head = 0;
+        int tail = 0;
+
+        Arrays.fill(distance, Integer.MAX_VALUE);
+        Arrays.fill(parent, -1);
+
+        long scanned = 0;
+        int peakQueue = 1;
+
+        SearchScratch scratch = SearchScratch.acquire(n);
+        try {
+            int[] queue = scratch.stack;
+            distance[source] = 0;
+            queue[tail++] = source;
+
+            while (head < tail) {
+                cancellation.check();
+                int u = queue[head++];
+                scanned += graph.endEdge(u) - graph.firstEdge(u);
+                for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                    int v = graph.target(e);
+                    if (distance[v] == Integer.MAX_VALUE) {
+                        distance[v] = distance[u] + 1;
+                        parent[v] = u;
+                        queue[tail++] = v;
+                    }
+                }
+                peakQueue = Math.max(peakQueue, tail - head);
+            }
+        } finally {
+            scratch.release();
+        }
+
+        if (metrics.isEnabled()) {
+            metrics.record(GraphOperation.BREADTH_FIRST_SEARCH, System.nanoTime() - start, tail, scanned, 0,
+                    peakQueue, 8L * n);
+        }
+
+        return new BFSResult<>(graph, source, distance, parent);
+    }
+}
@@ -0,0 +1,23 @@
+package graph;
+
+import java.util.concurrent.CancellationException;
+
+final class Cancellation {
+    static final Cancellation NONE = new Cancellation();
+
+    private volatile boolean cancelled;
+
+    void cancel() {
+        this.cancelled = true;
+    }
+
+    boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    void check() {
+        if (this.cancelled) {
+            throw new CancellationException("Query cancelled");
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package graph;
+
+public class Components<T> {
+    private final IndexedGraph<T> graph;
+    private final int[] component;
+    private final int[] sizes;
+
+    Components(IndexedGraph<T> graph, int[] component, int count) {
+        this.graph = graph;
+        this.component = component;
+        this.sizes = new int[count];
+
+        for (int c : component) {
+            this.sizes[c]++;
+        }
+    }
+
+    public int getCount() {
+        return this.sizes.length;
+    }
+
+    public int getComponent(T vertex) {
+        return this.component[this.graph.indexOf(vertex)];
+    }
+
+    public int getComponentById(int id) {
+        return this.component[id];
+    }
+
+    public int[] getComponents() {
+        return this.component.clone();
+    }
+
+    public int getSize(int component) {
+        return this.sizes[component];
+    }
+
+    public boolean isConnected(T vertex1, T vertex2) {
+        return getComponent(vertex1) == getComponent(vertex2);
+    }
+
+    public IndexedGraph<T> getGraph() {
+        return this.graph;
+    }
+}
@@ -0,0 +1,167 @@
+package graph;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+public class ConcurrentGraph<T> extends AbstractGraph<T> {
+    private static final int STRIPES = 256;
+
+    private final ArrayList<Vertex<T>> vertices;
+    private final ConcurrentHashMap<T, Vertex<T>> index;
+    private final boolean directed;
+    private final StampedLock structure;
+    private final ReentrantLock vertexLock;
+    private final ReentrantLock[] stripes;
+    private final LongAdder modifications;
+    private volatile CsrGraph<T> snapshot;
+    private long snapshotVersion;
+
+    public ConcurrentGraph(boolean directed) {
+        this.vertices = new ArrayList<>();
+        this.index = new ConcurrentHashMap<>();
+        this.directed = directed;
+        this.structure = new StampedLock();
+        this.vertexLock = new ReentrantLock();
+        this.stripes = new ReentrantLock[STRIPES];
+        this.modifications = new LongAdder();
+        this.snapshotVersion = -1;
+
+        for (int i = 0; i < STRIPES; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public void addVertex(T vertex) {
+        long stamp = this.structure.readLock();
+        this.vertexLock.lock();
+        try {
+            Vertex<T> v = new Vertex<>(vertex, this.vertices.size(), this.vertices);
+            if (this.index.putIfAbsent(vertex, v) != null) {
+                throw new IllegalArgumentException("Vertex already exists");
+            }
+            this.vertices.add(v);
+            this.modifications.increment();
+        } finally {
+            this.vertexLock.unlock();
+            this.structure.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void addEdge(T source, T destination, int weight) {
+        long stamp = this.structure.readLock();
+        try {
+            Vertex<T> vertex1 = getVertex(source);
+            Vertex<T> vertex2 = getVertex(destination);
+            int stripe1 = vertex1.getId() & (STRIPES - 1);
+            int stripe2 = vertex2.getId() & (STRIPES - 1);
+            ReentrantLock first = this.stripes[Math.min(stripe1, stripe2)];
+            ReentrantLock second = this.stripes[Math.max(stripe1, stripe2)];
+
+            first.lock();
+            second.lock();
+            try {
+                GraphAdjacencyList.link(vertex1, vertex2, weight, this.directed);
+                this.modifications.increment();
+            } finally {
+                second.unlock();
+                first.unlock();
+            }
+        } finally {
+            this.structure.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void removeVertex(T vertex) {
+        long stamp = this.structure.writeLock();
+        try {
+            Vertex<T> v = getVertex(vertex);
+            GraphAdjacencyList.detach(this.vertices, v, this.directed);
+            this.index.remove(vertex);
+            this.modifications.increment();
+        } finally {
+            this.structure.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void removeEdge(T source, T destination) {
+        long stamp = this.structure.readLock();
+        try {
+            Vertex<T> vertex1 = getVertex(source);
+            Vertex<T> vertex2 = getVertex(destination);
+            int stripe1 = vertex1.getId() & (STRIPES - 1);
+            int stripe2 = vertex2.getId() & (STRIPES - 1);
+            ReentrantLock first = this.stripes[Math.min(stripe1, stripe2)];
+            ReentrantLock second = this.stripes[Math.max(stripe1, stripe2)];
+
+            first.lock();
+            second.lock();
+            try {
+                GraphAdjacencyList.unlink(vertex1, vertex2, this.directed);
+                this.modifications.increment();
+            } finally {
+                second.unlock();
+                first.unlock();
+            }
+        } finally {
+            this.structure.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public CsrGraph<T> freeze() {
+        long version = this.modifications.sum();
+        long stamp = this.structure.tryOptimisticRead();
+        CsrGraph<T> current = this.snapshot;
+        long currentVersion = this.snapshotVersion;
+        if (current != null && currentVersion == version && this.structure.validate(stamp)) {
+            return current;
+        }
+
+        stamp = this.structure.writeLock();
+        try {
+            version = this.modifications.sum();
+            if (this.snapshot == null || this.snapshotVersion != version) {
+                this.snapshot = CsrGraph.of(this.vertices, this.directed);
+                this.snapshotVersion = version;
+            }
+            return this.snapshot;
+        } finally {
+            this.structure.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public List<Vertex<T>> getVertices() {
+        long stamp = this.structure.readLock();
+        this.vertexLock.lock();
+        try {
+            return Collections.unmodifiableList(new ArrayList<>(this.vertices));
+        } finally {
+            this.vertexLock.unlock();
+            this.structure.unlockRead(stamp);
+        }
+    }
+
+    public boolean containsVertex(T value) {
+        return this.index.containsKey(value);
+    }
+
+    public boolean isDirected() {
+        return this.directed;
+    }
+
+    private Vertex<T> getVertex(T value) {
+        Vertex<T> v = this.index.get(value);
+        if (v == null) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+        return v;
+    }
+}
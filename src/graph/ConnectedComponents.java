@@ -0,0 +1,44 @@
+package graph;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public final class ConnectedComponents {
+
+    private ConnectedComponents() {
+    }
+
+    public static <T> Components<T> run(IndexedGraph<T> graph) {
+        return run(graph, ForkJoinPool.commonPool());
+    }
+
+    public static <T> Components<T> run(IndexedGraph<T> graph, ForkJoinPool pool) {
+        int n = graph.vertexCount();
+        boolean directed = graph.isDirected();
+        DisjointSet components = new DisjointSet(n);
+
+        pool.submit(() -> IntStream.range(0, n).parallel().forEach(u -> {
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                int v = graph.target(e);
+                if (directed || u < v) {
+                    components.union(u, v);
+                }
+            }
+        })).join();
+
+        int[] component = new int[n];
+        int[] label = new int[n];
+        int count = 0;
+        for (int v = 0; v < n; v++) {
+            int root = components.find(v);
+            if (root == v) {
+                label[v] = count++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            component[v] = label[components.find(v)];
+        }
+
+        return new Components<>(graph, component, count);
+    }
+}
@@ -0,0 +1,182 @@
+package graph;
+
+import java.util.*;
+
+public class CsrGraph<T> extends AbstractGraph<T> implements IndexedGraph<T> {
+    private final Object[] values;
+    private final HashMap<T, Integer> index;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final boolean directed;
+    private ArrayList<Vertex<T>> vertices;
+    private volatile CsrGraph<T> reverse;
+
+    CsrGraph(Object[] values, int[] offsets, int[] targets, int[] weights, boolean directed) {
+        this.values = values;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.directed = directed;
+        this.index = new HashMap<>(Math.max(16, (int) (values.length / 0.75f) + 1));
+
+        for (int i = 0; i < values.length; i++) {
+            this.index.put(value(i), i);
+        }
+    }
+
+    private CsrGraph(CsrGraph<T> graph, int[] offsets, int[] targets, int[] weights) {
+        this.values = graph.values;
+        this.index = graph.index;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.directed = true;
+        this.reverse = graph;
+    }
+
+    static <T> CsrGraph<T> of(List<Vertex<T>> vertices, boolean directed) {
+        int n = vertices.size();
+        Object[] values = new Object[n];
+        int[] offsets = new int[n + 1];
+
+        for (int i = 0; i < n; i++) {
+            values[i] = vertices.get(i).getValue();
+            offsets[i + 1] = offsets[i] + vertices.get(i).getAdjacencyList().size();
+        }
+
+        int[] targets = new int[offsets[n]];
+        int[] weights = new int[offsets[n]];
+
+        for (int i = 0; i < n; i++) {
+            AdjacencyList adjacent = vertices.get(i).getAdjacencyList();
+            for (int slot = 0; slot < adjacent.size(); slot++) {
+                targets[offsets[i] + slot] = adjacent.target(slot);
+                weights[offsets[i] + slot] = adjacent.weight(slot);
+            }
+        }
+
+        return new CsrGraph<>(values, offsets, targets, weights, directed);
+    }
+
+    @Override
+    public void addVertex(T vertex) {
+        throw new UnsupportedOperationException("Graph is immutable");
+    }
+
+    @Override
+    public void addEdge(T source, T destination, int weight) {
+        throw new UnsupportedOperationException("Graph is immutable");
+    }
+
+    @Override
+    public void removeVertex(T vertex) {
+        throw new UnsupportedOperationException("Graph is immutable");
+    }
+
+    @Override
+    public void removeEdge(T vertex1, T vertex2) {
+        throw new UnsupportedOperationException("Graph is immutable");
+    }
+
+    @Override
+    public CsrGraph<T> freeze() {
+        return this;
+    }
+
+    @Override
+    public CsrGraph<T> reverse() {
+        if (!this.directed) {
+            return this;
+        }
+
+        CsrGraph<T> graph = this.reverse;
+        if (graph == null) {
+            int n = this.values.length;
+            int[] offsets = new int[n + 1];
+            int[] targets = new int[this.targets.length];
+            int[] weights = new int[this.weights.length];
+
+            for (int target : this.targets) {
+                offsets[target + 1]++;
+            }
+            for (int i = 0; i < n; i++) {
+                offsets[i + 1] += offsets[i];
+            }
+
+            int[] next = Arrays.copyOf(offsets, n);
+            for (int u = 0; u < n; u++) {
+                for (int e = this.offsets[u]; e < this.offsets[u + 1]; e++) {
+                    int slot = next[this.targets[e]]++;
+                    targets[slot] = u;
+                    weights[slot] = this.weights[e];
+                }
+            }
+
+            graph = new CsrGraph<>(this, offsets, targets, weights);
+            this.reverse = graph;
+        }
+        return graph;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T value(int id) {
+        return (T) this.values[id];
+    }
+
+    @Override
+    public int indexOf(T value) {
+        Integer id = this.index.get(value);
+        if (id == null) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+        return id;
+    }
+
+    @Override
+    public int vertexCount() {
+        return this.values.length;
+    }
+
+    @Override
+    public int edgeCount() {
+        return this.targets.length;
+    }
+
+    @Override
+    public int firstEdge(int vertex) {
+        return this.offsets[vertex];
+    }
+
+    @Override
+    public int endEdge(int vertex) {
+        return this.offsets[vertex + 1];
+    }
+
+    @Override
+    public int target(int edge) {
+        return this.targets[edge];
+    }
+
+    @Override
+    public int weight(int edge) {
+        return this.weights[edge];
+    }
+
+    @Override
+    public boolean isDirected() {
+        return this.directed;
+    }
+
+    @Override
+    public synchronized ArrayList<Vertex<T>> getVertices() {
+        if (this.vertices == null) {
+            this.vertices = new ArrayList<>(this.values.length);
+            for (int i = 0; i < this.values.length; i++) {
+                this.vertices.add(new Vertex<>(value(i), i));
+            }
+        }
+        return this.vertices;
+    }
+}
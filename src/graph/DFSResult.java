@@ -0,0 +1,40 @@
+package graph;
+
+public class DFSResult<T> extends SearchResult<T> {
+    private final int[] discoveryTime;
+    private final int[] finishingTime;
+
+    DFSResult(IndexedGraph<T> graph, int source, int[] discoveryTime, int[] finishingTime, int[] parent) {
+        super(graph, source, parent);
+        this.discoveryTime = discoveryTime;
+        this.finishingTime = finishingTime;
+    }
+
+    public boolean isVisited(T vertex) {
+        return this.discoveryTime[this.graph.indexOf(vertex)] != 0;
+    }
+
+    public int getDiscoveryTime(T vertex) {
+        return this.discoveryTime[this.graph.indexOf(vertex)];
+    }
+
+    public int getDiscoveryTimeById(int id) {
+        return this.discoveryTime[id];
+    }
+
+    public int getFinishingTime(T vertex) {
+        return this.finishingTime[this.graph.indexOf(vertex)];
+    }
+
+    public int getFinishingTimeById(int id) {
+        return this.finishingTime[id];
+    }
+
+    public int[] getDiscoveryTimes() {
+        return this.discoveryTime.clone();
+    }
+
+    public int[] getFinishingTimes() {
+        return this.finishingTime.clone();
+    }
+}
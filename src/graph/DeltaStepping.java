@@ -0,0 +1,256 @@
+package graph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+public final class DeltaStepping<T> {
+    private static final int SEQUENTIAL_FRONTIER = 256;
+    private static final int MAX_BUCKETS = 1 << 20;
+    private static final long UNREACHED = ((long) Integer.MAX_VALUE << 32) | 0xFFFFFFFFL;
+
+    private final IndexedGraph<T> graph;
+    private final int delta;
+    private final AtomicLongArray state;
+    private final Bins bins;
+    private final Buffer[] buffers;
+
+    private DeltaStepping(IndexedGraph<T> graph, int delta, int buckets, int chunks) {
+        this.graph = graph;
+        this.delta = delta;
+        this.state = new AtomicLongArray(graph.vertexCount());
+        this.bins = new Bins(buckets);
+        this.buffers = new Buffer[chunks];
+
+        for (int v = 0; v < graph.vertexCount(); v++) {
+            this.state.set(v, UNREACHED);
+        }
+        for (int c = 0; c < chunks; c++) {
+            this.buffers[c] = new Buffer();
+        }
+    }
+
+    public static <T> ShortestPathTree<T> run(IndexedGraph<T> graph, int source) {
+        return run(graph, source, defaultDelta(graph), ForkJoinPool.commonPool());
+    }
+
+    public static <T> ShortestPathTree<T> run(IndexedGraph<T> graph, int source, int delta) {
+        return run(graph, source, delta, ForkJoinPool.commonPool());
+    }
+
+    public static <T> ShortestPathTree<T> run(IndexedGraph<T> graph, int source, int delta, ForkJoinPool pool) {
+        if (delta < 1) {
+            throw new IllegalArgumentException("Delta must be at least 1");
+        }
+
+        long buckets = (maxWeight(graph) + delta - 1L) / delta + 1;
+        if (buckets > MAX_BUCKETS) {
+            throw new IllegalArgumentException("Delta is too small for the largest edge weight");
+        }
+
+        GraphMetrics metrics = GraphMetrics.installed();
+        long start = Instrumentation.start(metrics);
+
+        DeltaStepping<T> search = new DeltaStepping<>(graph, delta, (int) buckets,
+                Math.max(1, pool.getParallelism() * 4));
+        int peakQueue = search.search(source, pool);
+
+        int n = graph.vertexCount();
+        int[] distance = new int[n];
+        int[] parent = new int[n];
+        long reached = 0;
+        for (int v = 0; v < n; v++) {
+            long s = search.state.get(v);
+            distance[v] = (int) (s >>> 32);
+            parent[v] = distance[v] == Integer.MAX_VALUE ? -1 : (int) s;
+            if (distance[v] != Integer.MAX_VALUE) {
+                reached++;
+            }
+        }
+
+        if (metrics.isEnabled()) {
+            long relaxed = search.bins.relaxed;
+            for (Buffer b : search.buffers) {
+                relaxed += b.relaxed;
+            }
+            metrics.record(GraphOperation.DELTA_STEPPING, System.nanoTime() - start, reached, relaxed, 0,
+                    peakQueue, 16L * n);
+        }
+
+        return new ShortestPathTree<>(graph, source, distance, parent);
+    }
+
+    static int defaultDelta(IndexedGraph<?> graph) {
+        int n = graph.vertexCount();
+        int m = graph.edgeCount();
+        long total = 0;
+        int max = 0;
+
+        for (int v = 0; v < n; v++) {
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                int weight = checkWeight(graph.weight(e));
+                total += weight;
+                max = Math.max(max, weight);
+            }
+        }
+
+        long mean = m == 0 ? 1 : Math.max(1, total / m);
+        return (int) Math.max(mean, (max + MAX_BUCKETS - 2L) / (MAX_BUCKETS - 1));
+    }
+
+    private static int maxWeight(IndexedGraph<?> graph) {
+        int max = 0;
+
+        for (int v = 0; v < graph.vertexCount(); v++) {
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                max = Math.max(max, checkWeight(graph.weight(e)));
+            }
+        }
+        return max;
+    }
+
+    private static int checkWeight(int weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Negative edge weights are not supported");
+        }
+        return weight;
+    }
+
+    private int search(int source, ForkJoinPool pool) {
+        this.state.set(source, 0xFFFFFFFFL);
+        int[] frontier = {source};
+        int size = 1;
+        int peak = 1;
+
+        for (int bin = 0; size > 0; ) {
+            int current = bin;
+            int[] items = frontier;
+            int count = size;
+
+            if (count < SEQUENTIAL_FRONTIER) {
+                relax(items, 0, count, current, this.bins);
+            } else {
+                int chunks = this.buffers.length;
+                pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(c -> relax(items,
+                        (int) ((long) count * c / chunks), (int) ((long) count * (c + 1) / chunks), current,
+                        this.buffers[c]))).join();
+            }
+
+            for (Buffer b : this.buffers) {
+                b.drain(this.bins);
+            }
+            if (this.bins.isEmpty()) {
+                break;
+            }
+
+            bin = this.bins.lowest();
+            size = this.bins.size();
+            frontier = this.bins.take();
+            peak = Math.max(peak, size);
+        }
+        return peak;
+    }
+
+    private void relax(int[] frontier, int from, int to, int bin, Sink sink) {
+        long floor = (long) bin * this.delta;
+
+        for (int i = from; i < to; i++) {
+            int u = frontier[i];
+            long du = this.state.get(u) >>> 32;
+            if (du < floor) {
+                continue;
+            }
+
+            for (int e = this.graph.firstEdge(u); e < this.graph.endEdge(u); e++) {
+                int v = this.graph.target(e);
+                long alt = du + this.graph.weight(e);
+                long packed = (alt << 32) | (u & 0xFFFFFFFFL);
+
+                while (true) {
+                    long old = this.state.get(v);
+                    if (alt >= old >>> 32) {
+                        break;
+                    }
+                    if (this.state.compareAndSet(v, old, packed)) {
+                        sink.add((int) (alt / this.delta), v);
+                        sink.relaxed++;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private abstract static class Sink {
+        long relaxed;
+
+        abstract void add(int bin, int vertex);
+    }
+
+    private static final class Buffer extends Sink {
+        private long[] entries = new long[16];
+        private int size;
+
+        @Override
+        void add(int bin, int vertex) {
+            if (this.size == this.entries.length) {
+                this.entries = Arrays.copyOf(this.entries, this.size * 2);
+            }
+            this.entries[this.size++] = ((long) bin << 32) | (vertex & 0xFFFFFFFFL);
+        }
+
+        void drain(Bins bins) {
+            for (int i = 0; i < this.size; i++) {
+                bins.add((int) (this.entries[i] >>> 32), (int) this.entries[i]);
+            }
+            this.size = 0;
+        }
+    }
+
+    private static final class Bins extends Sink {
+        private final int[][] items;
+        private final int[] sizes;
+        private final IndexedDaryHeap occupied;
+
+        Bins(int buckets) {
+            this.items = new int[buckets][];
+            this.sizes = new int[buckets];
+            this.occupied = new IndexedDaryHeap(buckets);
+        }
+
+        @Override
+        void add(int bin, int vertex) {
+            int slot = bin % this.items.length;
+            if (this.items[slot] == null) {
+                this.items[slot] = new int[16];
+            } else if (this.sizes[slot] == this.items[slot].length) {
+                this.items[slot] = Arrays.copyOf(this.items[slot], this.sizes[slot] * 2);
+            }
+            if (this.sizes[slot] == 0) {
+                this.occupied.insert(slot, bin);
+            }
+            this.items[slot][this.sizes[slot]++] = vertex;
+        }
+
+        boolean isEmpty() {
+            return this.occupied.isEmpty();
+        }
+
+        int lowest() {
+            return (int) this.occupied.peekKey();
+        }
+
+        int size() {
+            return this.sizes[this.occupied.peek()];
+        }
+
+        int[] take() {
+            int slot = this.occupied.poll();
+            int[] taken = this.items[slot];
+            this.sizes[slot] = 0;
+            this.items[slot] = null;
+            return taken;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package graph;
+
+import java.util.*;
+
+public final class DepthFirstSearch<T> {
+    private final IndexedGraph<T> graph;
+    private final int[] discoveryTime;
+    private final int[] finishingTime;
+    private final int[] parent;
+    private final SearchScratch scratch;
+    private final int[] cursor;
+    private final int[] stack;
+    private int time;
+
+    private DepthFirstSearch(IndexedGraph<T> graph) {
+        this.graph = graph;
+        this.discoveryTime = new int[graph.vertexCount()];
+        this.finishingTime = new int[graph.vertexCount()];
+        this.parent = new int[graph.vertexCount()];
+        this.scratch = SearchScratch.acquire(graph.vertexCount());
+        this.cursor = this.scratch.cursor;
+        this.stack = this.scratch.stack;
+        Arrays.fill(this.parent, -1);
+    }
+
+    public static <T> DFSResult<T> run(IndexedGraph<T> graph, int source) {
+        DepthFirstSearch<T> search = new DepthFirstSearch<>(graph);
+        try {
+            search.visit(source);
+        } finally {
+            search.scratch.release();
+        }
+        return search.result(source);
+    }
+
+    public static <T> DFSResult<T> runAll(IndexedGraph<T> graph) {
+        DepthFirstSearch<T> search = new DepthFirstSearch<>(graph);
+        try {
+            for (int u = 0; u < graph.vertexCount(); u++) {
+                if (search.discoveryTime[u] == 0) {
+                    search.visit(u);
+                }
+            }
+        } finally {
+            search.scratch.release();
+        }
+        return search.result(-1);
+    }
+
+    private DFSResult<T> result(int source) {
+        return new DFSResult<>(this.graph, source, this.discoveryTime, this.finishingTime, this.parent);
+    }
+
+    private void visit(int start) {
+        int top = 0;
+
+        this.time++;
+        this.discoveryTime[start] = this.time;
+        this.cursor[start] = this.graph.firstEdge(start);
+        this.stack[top++] = start;
+
+        while (top > 0) {
+            int u = this.stack[top - 1];
+
+            if (this.cursor[u] < this.graph.endEdge(u)) {
+                int v = this.graph.target(this.cursor[u]++);
+                if (this.discoveryTime[v] == 0) {
+                    this.parent[v] = u;
+                    this.time++;
+                    this.discoveryTime[v] = this.time;
+                    this.cursor[v] = this.graph.firstEdge(v);
+                    this.stack[top++] = v;
+                }
+            } else {
+                top--;
+                this.time++;
+                this.finishingTime[u] = this.time;
+            }
+        }
+    }
+}
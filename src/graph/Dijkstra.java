@@ -0,0 +1,61 @@
+package graph;
+
+import java.util.*;
+
+public final class Dijkstra {
+
+    private Dijkstra() {
+    }
+
+    public static <T> ShortestPathTree<T> run(IndexedGraph<T> graph, int source) {
+        return run(graph, source, Cancellation.NONE);
+    }
+
+    static <T> ShortestPathTree<T> run(IndexedGraph<T> graph, int source, Cancellation cancellation) {
+        GraphMetrics metrics = GraphMetrics.installed();
+        long start = Instrumentation.start(metrics);
+        int n = graph.vertexCount();
+        int[] distance = new int[n];
+        int[] parent = new int[n];
+        boolean[] settled = new boolean[n];
+
+        Arrays.fill(distance, Integer.MAX_VALUE);
+        Arrays.fill(parent, -1);
+        distance[source] = 0;
+
+        IndexedDaryHeap queue = new IndexedDaryHeap(n);
+        queue.insert(source, 0);
+        long visited = 0;
+        long relaxed = 0;
+        long heapOperations = 1;
+        int peakQueue = 1;
+
+        while (!queue.isEmpty()) {
+            cancellation.check();
+            int u = queue.poll();
+            settled[u] = true;
+            visited++;
+            heapOperations++;
+
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                int v = graph.target(e);
+                long alt = (long) distance[u] + graph.weight(e);
+                if (!settled[v] && alt < distance[v]) {
+                    distance[v] = (int) alt;
+                    parent[v] = u;
+                    queue.insertOrDecrease(v, alt);
+                    relaxed++;
+                }
+            }
+            peakQueue = Math.max(peakQueue, queue.size());
+        }
+
+        heapOperations += relaxed;
+        if (metrics.isEnabled()) {
+            metrics.record(GraphOperation.DIJKSTRA, System.nanoTime() - start, visited, relaxed, heapOperations,
+                    peakQueue, 25L * n);
+        }
+
+        return new ShortestPathTree<>(graph, source, distance, parent);
+    }
+}
@@ -0,0 +1,63 @@
+package graph;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public final class DisjointSet {
+    private final AtomicIntegerArray parent;
+
+    public DisjointSet(int size) {
+        this.parent = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            this.parent.set(i, i);
+        }
+    }
+
+    public int size() {
+        return this.parent.length();
+    }
+
+    public int find(int x) {
+        while (true) {
+            int p = this.parent.get(x);
+            if (p == x) {
+                return x;
+            }
+            int grandparent = this.parent.get(p);
+            if (p != grandparent) {
+                this.parent.compareAndSet(x, p, grandparent);
+            }
+            x = grandparent;
+        }
+    }
+
+    public boolean union(int x, int y) {
+        while (true) {
+            x = find(x);
+            y = find(y);
+            if (x == y) {
+                return false;
+            }
+            if (x < y) {
+                int t = x;
+                x = y;
+                y = t;
+            }
+            if (this.parent.compareAndSet(x, x, y)) {
+                return true;
+            }
+        }
+    }
+
+    public boolean connected(int x, int y) {
+        while (true) {
+            x = find(x);
+            y = find(y);
+            if (x == y) {
+                return true;
+            }
+            if (this.parent.get(x) == x) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package graph;
+
+import java.util.*;
+
+public class DynamicShortestPaths<T> {
+    private final GraphAdjacencyList<T> graph;
+    private final List<Vertex<T>> vertices;
+    private final boolean directed;
+    private final Vertex<T> source;
+    private int[] distance;
+    private int[] parent;
+    private int[] affected;
+    private VisitMarks marks;
+    private IndexedDaryHeap queue;
+    private boolean closed;
+
+    DynamicShortestPaths(GraphAdjacencyList<T> graph, Vertex<T> source) {
+        this.graph = graph;
+        this.vertices = graph.getVertices();
+        this.directed = graph.isDirected();
+        this.source = source;
+        recompute();
+    }
+
+    public T getSource() {
+        return this.source.getValue();
+    }
+
+    public boolean isClosed() {
+        return this.closed;
+    }
+
+    public boolean isReachable(T vertex) {
+        return getDistanceById(id(vertex)) != Integer.MAX_VALUE;
+    }
+
+    public int getDistance(T vertex) {
+        return getDistanceById(id(vertex));
+    }
+
+    public int getDistanceById(int id) {
+        checkOpen();
+        return this.distance[id];
+    }
+
+    public T getParent(T vertex) {
+        int p = getParentById(id(vertex));
+        return p == -1 ? null : this.vertices.get(p).getValue();
+    }
+
+    public int getParentById(int id) {
+        checkOpen();
+        return this.parent[id];
+    }
+
+    public List<T> pathTo(T vertex) {
+        int v = id(vertex);
+        if (getDistanceById(v) == Integer.MAX_VALUE) {
+            return Collections.emptyList();
+        }
+
+        ArrayList<T> path = new ArrayList<>();
+        for (int u = v; u != -1; u = this.parent[u]) {
+            path.add(this.vertices.get(u).getValue());
+        }
+        Collections.reverse(path);
+
+        return path;
+    }
+
+    void recompute() {
+        int n = this.vertices.size();
+        if (this.distance == null || this.distance.length < n) {
+            allocate(n);
+        }
+        Arrays.fill(this.distance, Integer.MAX_VALUE);
+        Arrays.fill(this.parent, -1);
+
+        int s = this.source.getId();
+        this.distance[s] = 0;
+        this.queue.clear();
+        this.queue.insert(s, 0);
+        propagate(null);
+    }
+
+    void vertexAdded() {
+        int n = this.vertices.size();
+        if (this.distance.length < n) {
+            int capacity = Math.max(n, this.distance.length * 2);
+            int[] distance = this.distance;
+            int[] parent = this.parent;
+            allocate(capacity);
+            System.arraycopy(distance, 0, this.distance, 0, distance.length);
+            System.arraycopy(parent, 0, this.parent, 0, parent.length);
+            Arrays.fill(this.distance, distance.length, capacity, Integer.MAX_VALUE);
+            Arrays.fill(this.parent, parent.length, capacity, -1);
+        }
+    }
+
+    void close() {
+        this.closed = true;
+    }
+
+    void edgeDecreased(int u, int v, int weight) {
+        if (this.distance[u] == Integer.MAX_VALUE) {
+            return;
+        }
+
+        long alt = (long) this.distance[u] + weight;
+        if (alt < this.distance[v]) {
+            this.distance[v] = (int) alt;
+            this.parent[v] = u;
+            this.queue.clear();
+            this.queue.insert(v, alt);
+            propagate(null);
+        }
+    }
+
+    void edgeIncreased(int u, int v) {
+        if (this.parent[v] != u) {
+            return;
+        }
+
+        this.marks.reset();
+        int count = 0;
+        this.marks.mark(v);
+        this.affected[count++] = v;
+        for (int i = 0; i < count; i++) {
+            AdjacencyList out = this.vertices.get(this.affected[i]).getAdjacencyList();
+            for (int slot = 0; slot < out.size(); slot++) {
+                int y = out.target(slot);
+                if (this.parent[y] == this.affected[i] && this.marks.mark(y)) {
+                    this.affected[count++] = y;
+                }
+            }
+        }
+
+        this.queue.clear();
+        for (int i = 0; i < count; i++) {
+            int y = this.affected[i];
+            this.distance[y] = Integer.MAX_VALUE;
+            this.parent[y] = -1;
+        }
+        for (int i = 0; i < count; i++) {
+            int y = this.affected[i];
+            AdjacencyList in = incoming(y);
+            for (int slot = 0; slot < in.size(); slot++) {
+                int z = in.target(slot);
+                if (this.marks.isMarked(z) || this.distance[z] == Integer.MAX_VALUE) {
+                    continue;
+                }
+                long alt = (long) this.distance[z] + in.weight(slot);
+                if (alt < this.distance[y]) {
+                    this.distance[y] = (int) alt;
+                    this.parent[y] = z;
+                    this.queue.insertOrDecrease(y, alt);
+                }
+            }
+        }
+        propagate(this.marks);
+    }
+
+    private void propagate(VisitMarks scope) {
+        while (!this.queue.isEmpty()) {
+            int x = this.queue.poll();
+            AdjacencyList out = this.vertices.get(x).getAdjacencyList();
+
+            for (int slot = 0; slot < out.size(); slot++) {
+                int y = out.target(slot);
+                if (scope != null && !scope.isMarked(y)) {
+                    continue;
+                }
+                long alt = (long) this.distance[x] + out.weight(slot);
+                if (alt < this.distance[y]) {
+                    this.distance[y] = (int) alt;
+                    this.parent[y] = x;
+                    this.queue.insertOrDecrease(y, alt);
+                }
+            }
+        }
+    }
+
+    private AdjacencyList incoming(int vertex) {
+        Vertex<T> v = this.vertices.get(vertex);
+        return this.directed ? v.getIncomingList() : v.getAdjacencyList();
+    }
+
+    private void allocate(int capacity) {
+        this.distance = new int[capacity];
+        this.parent = new int[capacity];
+        this.affected = new int[capacity];
+        this.marks = new VisitMarks(capacity);
+        this.queue = new IndexedDaryHeap(capacity);
+    }
+
+    private int id(T vertex) {
+        return this.graph.indexOf(vertex);
+    }
+
+    private void checkOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("Monitor is closed");
+        }
+    }
+}
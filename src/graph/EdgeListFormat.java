@@ -0,0 +1,24 @@
+package graph;
+
+public enum EdgeListFormat {
+    CSV(',', '#'),
+    TSV('\t', '#'),
+    DIMACS(' ', 'c'),
+    SNAP('\t', '#');
+
+    private final char separator;
+    private final char comment;
+
+    EdgeListFormat(char separator, char comment) {
+        this.separator = separator;
+        this.comment = comment;
+    }
+
+    public char getSeparator() {
+        return this.separator;
+    }
+
+    public char getComment() {
+        return this.comment;
+    }
+}
@@ -0,0 +1,280 @@
+package graph;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+public final class EdgeListReader {
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int BATCH_SIZE = 1 << 20;
+    private static final int MAX_FIELDS = 3;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final EdgeListFormat format;
+    private final GraphAdjacencyList<Integer> graph;
+    private final long[] fields;
+    private final int[] sources;
+    private final int[] destinations;
+    private final int[] weights;
+    private final long[] lines;
+    private int batched;
+    private long edges;
+    private long line;
+
+    private EdgeListReader(ReadableByteChannel channel, EdgeListFormat format, GraphAdjacencyList<Integer> graph) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        this.format = format;
+        this.graph = graph;
+        this.fields = new long[MAX_FIELDS];
+        this.sources = new int[BATCH_SIZE];
+        this.destinations = new int[BATCH_SIZE];
+        this.weights = new int[BATCH_SIZE];
+        this.lines = new long[BATCH_SIZE];
+        this.buffer.flip();
+    }
+
+    public static GraphAdjacencyList<Integer> read(Path path, EdgeListFormat format, boolean directed) throws IOException {
+        GraphAdjacencyList<Integer> graph = new GraphAdjacencyList<>(directed);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            new EdgeListReader(channel, format, graph).load();
+        }
+        return graph;
+    }
+
+    public static void read(InputStream in, EdgeListFormat format, GraphAdjacencyList<Integer> graph) throws IOException {
+        new EdgeListReader(Channels.newChannel(in), format, graph).load();
+    }
+
+    private void load() throws IOException {
+        int c = next();
+
+        while (c != -1) {
+            this.line++;
+            int count = 0;
+            boolean numeric = true;
+            int tag = 0;
+
+            while (c == ' ' || c == '\t' || c == '\r') {
+                c = next();
+            }
+            if (c == this.format.getComment() || c == '%') {
+                c = skipLine(c);
+                continue;
+            }
+            if (this.format == EdgeListFormat.DIMACS && c != '\n' && c != -1) {
+                tag = c;
+                c = next();
+            }
+
+            while (c != '\n' && c != -1) {
+                if (c == ' ' || c == '\t' || c == '\r' || c == this.format.getSeparator()) {
+                    c = next();
+                } else if ((c >= '0' && c <= '9') || c == '-') {
+                    c = parseField(c, count++);
+                } else {
+                    numeric = false;
+                    while (c != '\n' && c != -1 && c != ' ' && c != '\t' && c != this.format.getSeparator()) {
+                        c = next();
+                    }
+                }
+            }
+            if (c == '\n') {
+                c = next();
+            }
+
+            if (this.format == EdgeListFormat.DIMACS) {
+                if (tag == 'p' && count >= 1) {
+                    presize((int) this.fields[0]);
+                } else if (tag == 'a') {
+                    if (count < 3) {
+                        throw malformed();
+                    }
+                    add(count);
+                }
+            } else if (numeric && count >= 2) {
+                add(count);
+            } else if (numeric ? count > 0 : this.edges > 0) {
+                throw malformed();
+            }
+        }
+
+        flush();
+    }
+
+    private int parseField(int c, int field) throws IOException {
+        boolean negative = c == '-';
+        long value = 0;
+        int digits = 0;
+
+        if (negative) {
+            c = next();
+        }
+        while (c >= '0' && c <= '9') {
+            value = value * 10 + (c - '0');
+            if (value > Integer.MAX_VALUE + 1L) {
+                throw malformed();
+            }
+            digits++;
+            c = next();
+        }
+        if (digits == 0 || (c != -1 && c != '\n' && c != '\r' && c != ' ' && c != '\t'
+                && c != this.format.getSeparator())) {
+            throw malformed();
+        }
+
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw malformed();
+        }
+        if (field < MAX_FIELDS) {
+            this.fields[field] = value;
+        }
+        return c;
+    }
+
+    private void add(int count) throws IOException {
+        this.sources[this.batched] = (int) this.fields[0];
+        this.destinations[this.batched] = (int) this.fields[1];
+        this.weights[this.batched] = count >= 3 ? (int) this.fields[2] : 1;
+        this.lines[this.batched] = this.line;
+        this.edges++;
+        if (++this.batched == BATCH_SIZE) {
+            flush();
+        }
+    }
+
+    private void presize(int vertices) {
+        if (this.graph.getVertices().isEmpty()) {
+            this.graph.getVertices().ensureCapacity(vertices);
+            for (int v = 1; v <= vertices; v++) {
+                this.graph.addVertex(v);
+            }
+        }
+    }
+
+    private void flush() throws IOException {
+        if (this.batched == 0) {
+            return;
+        }
+
+        boolean[] skip = duplicates();
+        int count = 0;
+        for (int i = 0; i < this.batched; i++) {
+            if (!skip[i]) {
+                this.sources[count] = this.sources[i];
+                this.destinations[count] = this.destinations[i];
+                this.weights[count] = this.weights[i];
+                this.lines[count++] = this.lines[i];
+            }
+        }
+
+        int existing = this.graph.getVertices().size();
+        int[] sourceIds = new int[count];
+        int[] destinationIds = new int[count];
+        for (int i = 0; i < count; i++) {
+            sourceIds[i] = id(this.sources[i]);
+            destinationIds[i] = id(this.destinations[i]);
+        }
+
+        try {
+            this.graph.addEdges(sourceIds, destinationIds, Arrays.copyOf(this.weights, count));
+        } catch (IllegalArgumentException e) {
+            List<Vertex<Integer>> vertices = this.graph.getVertices();
+            for (int v = vertices.size() - 1; v >= existing; v--) {
+                this.graph.removeVertex(vertices.get(v).getValue());
+            }
+            throw new IOException("Cannot load " + this.format + " edge list lines " + this.lines[0] + "-"
+                    + this.lines[count - 1] + ": " + e.getMessage(), e);
+        }
+        this.batched = 0;
+    }
+
+    private boolean[] duplicates() throws IOException {
+        boolean directed = this.graph.isDirected();
+        boolean[] skip = new boolean[this.batched];
+        long[] keys = new long[this.batched];
+        for (int i = 0; i < this.batched; i++) {
+            keys[i] = key(this.sources[i], this.destinations[i], directed);
+        }
+
+        long[] sorted = keys.clone();
+        Arrays.sort(sorted);
+        HashSet<Long> repeated = new HashSet<>();
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] == sorted[i - 1]) {
+                repeated.add(sorted[i]);
+            }
+        }
+
+        HashSet<Long> seen = new HashSet<>();
+        for (int i = 0; i < this.batched; i++) {
+            boolean duplicate = (repeated.contains(keys[i]) && !seen.add(keys[i])) || exists(i);
+            if (duplicate && directed) {
+                throw new IOException("Duplicate edge in " + this.format + " edge list at line " + this.lines[i]);
+            }
+            skip[i] = duplicate;
+        }
+        return skip;
+    }
+
+    private boolean exists(int edge) {
+        if (!this.graph.containsVertex(this.sources[edge]) || !this.graph.containsVertex(this.destinations[edge])) {
+            return false;
+        }
+
+        int u = this.graph.indexOf(this.sources[edge]);
+        int v = this.graph.indexOf(this.destinations[edge]);
+        return this.graph.getVertices().get(u).getAdjacencyList().contains(v);
+    }
+
+    private static long key(int source, int destination, boolean directed) {
+        int low = directed ? source : Math.min(source, destination);
+        int high = directed ? destination : Math.max(source, destination);
+        return ((long) low << 32) | (high & 0xFFFFFFFFL);
+    }
+
+    private int id(int value) {
+        if (!this.graph.containsVertex(value)) {
+            this.graph.addVertex(value);
+        }
+        return this.graph.indexOf(value);
+    }
+
+    private int skipLine(int c) throws IOException {
+        while (c != '\n' && c != -1) {
+            c = next();
+        }
+        return c == '\n' ? next() : c;
+    }
+
+    private int next() throws IOException {
+        if (!this.buffer.hasRemaining()) {
+            this.buffer.clear();
+            int read;
+            do {
+                read = this.channel.read(this.buffer);
+            } while (read == 0);
+            this.buffer.flip();
+            if (read < 0) {
+                return -1;
+            }
+        }
+        return this.buffer.get() & 0xFF;
+    }
+
+    private IOException malformed() {
+        return malformed(this.line);
+    }
+
+    private IOException malformed(long line) {
+        return new IOException("Malformed " + this.format + " edge list at line " + line);
+    }
+}
@@ -0,0 +1,123 @@
+package graph;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public final class EdgeListWriter {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int size;
+
+    private EdgeListWriter(OutputStream out) {
+        this.out = out;
+        this.buffer = new byte[BUFFER_SIZE];
+    }
+
+    public static <T> void write(IndexedGraph<T> graph, EdgeListFormat format, Path path) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            write(graph, format, out);
+        }
+    }
+
+    public static <T> void write(IndexedGraph<T> graph, EdgeListFormat format, OutputStream out) throws IOException {
+        EdgeListWriter writer = new EdgeListWriter(out);
+        boolean dimacs = format == EdgeListFormat.DIMACS;
+        boolean everyArc = dimacs || graph.isDirected();
+
+        if (dimacs) {
+            writer.put("p sp ");
+            writer.put(graph.vertexCount());
+            writer.put(' ');
+            writer.put(graph.edgeCount());
+            writer.put('\n');
+        }
+
+        for (int u = 0; u < graph.vertexCount(); u++) {
+            byte[] source = null;
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                int v = graph.target(e);
+                if (!everyArc && v < u) {
+                    continue;
+                }
+                if (dimacs) {
+                    writer.put("a ");
+                    writer.put(u + 1);
+                    writer.put(format.getSeparator());
+                    writer.put(v + 1);
+                } else {
+                    if (source == null) {
+                        source = bytes(graph.value(u));
+                    }
+                    writer.put(source);
+                    writer.put(format.getSeparator());
+                    writer.put(bytes(graph.value(v)));
+                }
+                writer.put(format.getSeparator());
+                writer.put(graph.weight(e));
+                writer.put('\n');
+            }
+        }
+
+        writer.flush();
+    }
+
+    private static byte[] bytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void put(String text) throws IOException {
+        put(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void put(byte[] bytes) throws IOException {
+        if (this.size + bytes.length > this.buffer.length) {
+            flush();
+        }
+        if (bytes.length > this.buffer.length) {
+            this.out.write(bytes);
+            return;
+        }
+        System.arraycopy(bytes, 0, this.buffer, this.size, bytes.length);
+        this.size += bytes.length;
+    }
+
+    private void put(char c) throws IOException {
+        if (this.size == this.buffer.length) {
+            flush();
+        }
+        this.buffer[this.size++] = (byte) c;
+    }
+
+    private void put(long value) throws IOException {
+        if (this.size + 20 > this.buffer.length) {
+            flush();
+        }
+        if (value < 0) {
+            this.buffer[this.size++] = '-';
+            value = -value;
+        }
+
+        int start = this.size;
+        do {
+            this.buffer[this.size++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+
+        for (int i = start, j = this.size - 1; i < j; i++, j--) {
+            byte b = this.buffer[i];
+            this.buffer[i] = this.buffer[j];
+            this.buffer[j] = b;
+        }
+    }
+
+    private void flush() throws IOException {
+        this.out.write(this.buffer, 0, this.size);
+        this.size = 0;
+        this.out.flush();
+    }
+}
@@ -0,0 +1,113 @@
+package graph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public final class FloydWarshall {
+    static final int TILE = 64;
+
+    private FloydWarshall() {
+    }
+
+    public static <T> AllPairsShortestPaths<T> run(IndexedGraph<T> graph) {
+        return run(graph, ForkJoinPool.commonPool());
+    }
+
+    public static <T> AllPairsShortestPaths<T> run(IndexedGraph<T> graph, ForkJoinPool pool) {
+        int n = graph.vertexCount();
+        int[] dist = new int[n * n];
+        int[] next = new int[n * n];
+
+        initialize(graph, dist, next, true);
+        solve(n, dist, next, true, pool);
+
+        return new AllPairsShortestPaths<>(graph, dist, next);
+    }
+
+    public static <T> int[] predecessors(IndexedGraph<T> graph) {
+        int n = graph.vertexCount();
+        int[] dist = new int[n * n];
+        int[] prev = new int[n * n];
+
+        initialize(graph, dist, prev, false);
+        solve(n, dist, prev, false, ForkJoinPool.commonPool());
+
+        return prev;
+    }
+
+    private static <T> void initialize(IndexedGraph<T> graph, int[] dist, int[] hop, boolean forward) {
+        int n = graph.vertexCount();
+
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        Arrays.fill(hop, -1);
+
+        for (int i = 0; i < n; i++) {
+            dist[i * n + i] = 0;
+            for (int e = graph.firstEdge(i); e < graph.endEdge(i); e++) {
+                int j = graph.target(e);
+                if (i == j && graph.weight(e) >= 0) {
+                    continue;
+                }
+                dist[i * n + j] = graph.weight(e);
+                hop[i * n + j] = forward ? j : i;
+            }
+        }
+    }
+
+    private static void solve(int n, int[] dist, int[] hop, boolean forward, ForkJoinPool pool) {
+        int blocks = (n + TILE - 1) / TILE;
+
+        for (int kb = 0; kb < blocks; kb++) {
+            int k = kb;
+            relax(n, dist, hop, forward, k, k, k);
+
+            if (blocks == 1) {
+                continue;
+            }
+
+            pool.submit(() -> IntStream.range(0, blocks).parallel().forEach(b -> {
+                if (b != k) {
+                    relax(n, dist, hop, forward, k, k, b);
+                    relax(n, dist, hop, forward, k, b, k);
+                }
+            })).join();
+
+            pool.submit(() -> IntStream.range(0, blocks * blocks).parallel().forEach(t -> {
+                int bi = t / blocks;
+                int bj = t % blocks;
+                if (bi != k && bj != k) {
+                    relax(n, dist, hop, forward, k, bi, bj);
+                }
+            })).join();
+        }
+    }
+
+    private static void relax(int n, int[] dist, int[] hop, boolean forward, int kb, int ib, int jb) {
+        int kEnd = Math.min(n, (kb + 1) * TILE);
+        int iEnd = Math.min(n, (ib + 1) * TILE);
+        int jEnd = Math.min(n, (jb + 1) * TILE);
+
+        for (int k = kb * TILE; k < kEnd; k++) {
+            int kRow = k * n;
+            for (int i = ib * TILE; i < iEnd; i++) {
+                int iRow = i * n;
+                int ik = dist[iRow + k];
+                if (ik == Integer.MAX_VALUE) {
+                    continue;
+                }
+                int hopIk = hop[iRow + k];
+                for (int j = jb * TILE; j < jEnd; j++) {
+                    int kj = dist[kRow + j];
+                    if (kj == Integer.MAX_VALUE) {
+                        continue;
+                    }
+                    if (dist[iRow + j] > ik + kj) {
+                        dist[iRow + j] = ik + kj;
+                        hop[iRow + j] = forward ? hopIk : hop[kRow + j];
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,60 +1,101 @@
 package graph;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.stream.IntStream;
 
-public class GraphAdjacencyList<T> implements IGraph<T> {
+public class GraphAdjacencyList<T> extends AbstractGraph<T> {
     private final ArrayList<Vertex<T>> vertices;
+    private final HashMap<T, Vertex<T>> index;
     private final boolean directed;
-    private int time;
+    private final ArrayList<DynamicShortestPaths<T>> monitors;
+    private volatile CsrGraph<T> snapshot;
+    private volatile long version;
 
     public GraphAdjacencyList(boolean directed) {
         this.vertices = new ArrayList<>();
+        this.index = new HashMap<>();
         this.directed = directed;
+        this.monitors = new ArrayList<>();
+    }
+
+    public GraphAdjacencyList(boolean directed, int expectedVertices) {
+        this.vertices = new ArrayList<>(expectedVertices);
+        this.index = new HashMap<>(Math.max(16, (int) (expectedVertices / 0.75f) + 1));
+        this.directed = directed;
+        this.monitors = new ArrayList<>();
     }
 
     @Override
     public void addVertex(T vertex) {
-        if (getVertex(vertex) != null) {
+        GraphMetrics metrics = GraphMetrics.installed();
+        long started = Instrumentation.start(metrics);
+        Vertex<T> v = new Vertex<>(vertex, this.vertices.size(), this.vertices);
+        if (this.index.putIfAbsent(vertex, v) != null) {
             throw new IllegalArgumentException("Vertex already exists");
         }
 
-        this.vertices.add(new Vertex<>(vertex));
+        this.vertices.add(v);
+        this.snapshot = null;
+        this.version++;
+        for (DynamicShortestPaths<T> monitor : this.monitors) {
+            monitor.vertexAdded();
+        }
+        Instrumentation.mutation(metrics, GraphOperation.ADD_VERTEX, started, 1, 0);
+    }
+
+    public void addVertices(Collection<? extends T> values) {
+        GraphMetrics metrics = GraphMetrics.installed();
+        long started = Instrumentation.start(metrics);
+        int start = this.vertices.size();
+        this.vertices.ensureCapacity(start + values.size());
+
+        for (T value : values) {
+            Vertex<T> v = new Vertex<>(value, this.vertices.size(), this.vertices);
+            if (this.index.putIfAbsent(value, v) != null) {
+                for (int i = this.vertices.size() - 1; i >= start; i--) {
+                    this.index.remove(this.vertices.remove(i).getValue());
+                }
+                throw new IllegalArgumentException("Vertex already exists");
+            }
+            this.vertices.add(v);
+        }
+        this.snapshot = null;
+        this.version++;
+        for (DynamicShortestPaths<T> monitor : this.monitors) {
+            monitor.vertexAdded();
+        }
+        Instrumentation.mutation(metrics, GraphOperation.ADD_VERTEX, started, values.size(), 0);
     }
 
     @Override
     public void addEdge(T source, T destination, int weight) {
+        GraphMetrics metrics = GraphMetrics.installed();
+        long started = Instrumentation.start(metrics);
         Vertex<T> vertex1 = getVertex(source);
         Vertex<T> vertex2 = getVertex(destination);
 
         if (vertex1 == null || vertex2 == null) {
             throw new IllegalArgumentException("Vertex does not exist");
         }
-
-        if (vertex1.getAdjacent().containsKey(vertex2)) {
-            throw new IllegalArgumentException("Edge already exists");
-        }
-
-        vertex1.addAdjacent(vertex2, weight);
-        if (!this.directed) {
-            vertex2.addAdjacent(vertex1, weight);
-        }
-    }
-
-    @Override
-    public void removeVertex(T vertex) {
-        Vertex<T> v = getVertex(vertex);
-        if (v == null) {
-            throw new IllegalArgumentException("Vertex does not exist");
-        }
-
-        this.vertices.remove(v);
-        for (Vertex<T> u : this.vertices) {
-            u.removeAdjacent(v);
+        checkMonitoredWeight(weight);
+
+        link(vertex1, vertex2, weight, this.directed);
+        this.snapshot = null;
+        this.version++;
+        for (DynamicShortestPaths<T> monitor : this.monitors) {
+            monitor.edgeDecreased(vertex1.getId(), vertex2.getId(), weight);
+            if (!this.directed) {
+                monitor.edgeDecreased(vertex2.getId(), vertex1.getId(), weight);
+            }
         }
+        Instrumentation.mutation(metrics, GraphOperation.ADD_EDGE, started, 0, 1);
     }
 
-    @Override
-    public void removeEdge(T source, T destination) {
+    public void updateEdge(T source, T destination, int weight) {
+        GraphMetrics metrics = GraphMetrics.installed();
+        long started = Instrumentation.start(metrics);
         Vertex<T> vertex1 = getVertex(source);
         Vertex<T> vertex2 = getVertex(destination);
 
@@ -62,210 +103,357 @@ public class GraphAdjacencyList<T> implements IGraph<T> {
             throw new IllegalArgumentException("Vertex does not exist");
         }
 
-        if (!vertex1.getAdjacent().containsKey(vertex2)) {
+        AdjacencyList out = vertex1.getAdjacencyList();
+        int slot = out.indexOf(vertex2.getId());
+        if (slot == -1) {
             throw new IllegalArgumentException("Edge does not exist");
         }
-
-        vertex1.removeAdjacent(vertex2);
-        if (!this.directed) {
-            vertex2.removeAdjacent(vertex1);
+        checkMonitoredWeight(weight);
+
+        int old = out.weight(slot);
+        out.setWeight(slot, weight);
+        AdjacencyList mirror = this.directed ? vertex2.getIncomingList() : vertex2.getAdjacencyList();
+        mirror.setWeight(mirror.indexOf(vertex1.getId()), weight);
+        this.snapshot = null;
+        this.version++;
+
+        for (DynamicShortestPaths<T> monitor : this.monitors) {
+            if (weight < old) {
+                monitor.edgeDecreased(vertex1.getId(), vertex2.getId(), weight);
+                if (!this.directed) {
+                    monitor.edgeDecreased(vertex2.getId(), vertex1.getId(), weight);
+                }
+            } else if (weight > old) {
+                monitor.edgeIncreased(vertex1.getId(), vertex2.getId());
+                if (!this.directed) {
+                    monitor.edgeIncreased(vertex2.getId(), vertex1.getId());
+                }
+            }
         }
+        Instrumentation.mutation(metrics, GraphOperation.UPDATE_EDGE, started, 0, 1);
     }
 
-    @Override
-    public void BFS(T source) {
-        Vertex<T> s = getVertex(source);
-        if (s == null) {
-            throw new IllegalArgumentException("Vertex does not exist");
+    public void addEdges(List<? extends T> sources, List<? extends T> destinations, int[] weights) {
+        if (sources.size() != destinations.size() || sources.size() != weights.length) {
+            throw new IllegalArgumentException("Edge arrays must have the same length");
         }
 
-        for (Vertex<T> u : this.vertices) {
-            if (!u.equals(s)) {
-                u.setColor("white");
-                u.setDistance(Integer.MAX_VALUE);
-                u.setParent(null);
-            }
+        int[] sourceIds = new int[sources.size()];
+        int[] destinationIds = new int[destinations.size()];
+        for (int i = 0; i < sourceIds.length; i++) {
+            sourceIds[i] = indexOf(sources.get(i));
+            destinationIds[i] = indexOf(destinations.get(i));
         }
 
-        s.setColor("gray");
-        s.setDistance(0);
-        s.setParent(null);
+        addEdges(sourceIds, destinationIds, weights);
+    }
 
-        Queue<Vertex<T>> queue = new LinkedList<>();
-        queue.offer(s);
+    public void addEdges(int[] sources, int[] destinations, int[] weights) {
+        GraphMetrics metrics = GraphMetrics.installed();
+        long started = Instrumentation.start(metrics);
+        if (sources.length != destinations.length || sources.length != weights.length) {
+            throw new IllegalArgumentException("Edge arrays must have the same length");
+        }
 
-        while (!queue.isEmpty()) {
-            Vertex<T> u = queue.poll();
-            for (Vertex<T> v : u.getAdjacent().keySet()) {
-                if (v.getColor().equals("white")) {
-                    v.setColor("gray");
-                    v.setDistance(u.getDistance() + 1);
-                    v.setParent(u);
-                    queue.add(v);
-                }
+        int n = this.vertices.size();
+        int count = 0;
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i] < 0 || sources[i] >= n || destinations[i] < 0 || destinations[i] >= n) {
+                throw new IllegalArgumentException("Vertex does not exist");
             }
-            u.setColor("black");
+            checkMonitoredWeight(weights[i]);
+            count += this.directed || sources[i] == destinations[i] ? 1 : 2;
         }
-    }
 
-    @Override
-    public void DFS(T source) {
-        Vertex<T> s = getVertex(source);
-        if (s == null) {
-            throw new IllegalArgumentException("Vertex does not exist");
+        long[] outKeys = new long[count];
+        long[] outArcs = new long[count];
+        for (int i = 0, j = 0; i < sources.length; i++) {
+            outKeys[j] = key(sources[i], j);
+            outArcs[j++] = key(destinations[i], weights[i]);
+            if (!this.directed && sources[i] != destinations[i]) {
+                outKeys[j] = key(destinations[i], j);
+                outArcs[j++] = key(sources[i], weights[i]);
+            }
         }
-
-        for (Vertex<T> u : this.vertices) {
-            u.setColor("white");
-            u.setParent(null);
+        long[] out = group(outKeys, outArcs);
+        int[] outSegments = segments(outKeys);
+
+        boolean duplicate = IntStream.range(0, outSegments.length - 1).parallel().anyMatch(s -> {
+            int from = outSegments[s];
+            int to = outSegments[s + 1];
+            Arrays.sort(out, from, to);
+            AdjacencyList existing = this.vertices.get((int) (outKeys[from] >>> 32)).getAdjacencyList();
+            for (int e = from; e < to; e++) {
+                int target = (int) (out[e] >>> 32);
+                if ((e > from && target == (int) (out[e - 1] >>> 32)) || existing.contains(target)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+        if (duplicate) {
+            throw new IllegalArgumentException("Edge already exists");
         }
 
-        this.time = 0;
+        IntStream.range(0, outSegments.length - 1).parallel().forEach(s -> append(
+                this.vertices.get((int) (outKeys[outSegments[s]] >>> 32)).getAdjacencyList(),
+                out, outSegments[s], outSegments[s + 1]));
+
+        if (this.directed) {
+            long[] inKeys = new long[count];
+            long[] inArcs = new long[count];
+            for (int i = 0; i < sources.length; i++) {
+                inKeys[i] = key(destinations[i], i);
+                inArcs[i] = key(sources[i], weights[i]);
+            }
+            long[] in = group(inKeys, inArcs);
+            int[] inSegments = segments(inKeys);
 
-        DFSVisit(s);
+            IntStream.range(0, inSegments.length - 1).parallel().forEach(s -> append(
+                    this.vertices.get((int) (inKeys[inSegments[s]] >>> 32)).getIncomingList(),
+                    in, inSegments[s], inSegments[s + 1]));
+        }
+        this.snapshot = null;
+        this.version++;
+        for (DynamicShortestPaths<T> monitor : this.monitors) {
+            monitor.recompute();
+        }
+        Instrumentation.mutation(metrics, GraphOperation.ADD_EDGES, started, 0, sources.length);
     }
 
-    private void DFSVisit(Vertex<T> start) {
-        this.time++;
-        start.setDiscoveryTime(this.time);
-        start.setColor("gray");
+    private static long key(int high, int low) {
+        return ((long) high << 32) | (low & 0xFFFFFFFFL);
+    }
 
-        for (Vertex<T> u : start.getAdjacent().keySet()) {
-            if (u.getColor().equals("white")) {
-                u.setParent(start);
-                DFSVisit(u);
+    private static long[] group(long[] keys, long[] arcs) {
+        Arrays.parallelSort(keys);
+        long[] grouped = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            grouped[i] = arcs[(int) keys[i]];
+        }
+        return grouped;
+    }
+
+    private static int[] segments(long[] keys) {
+        int count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (i == 0 || keys[i] >>> 32 != keys[i - 1] >>> 32) {
+                count++;
             }
         }
 
-        start.setColor("black");
-        this.time++;
-        start.setFinishingTime(this.time);
+        int[] segments = new int[count + 1];
+        for (int i = 0, s = 0; i < keys.length; i++) {
+            if (i == 0 || keys[i] >>> 32 != keys[i - 1] >>> 32) {
+                segments[s++] = i;
+            }
+        }
+        segments[count] = keys.length;
+        return segments;
     }
 
-    @Override
-    public Map<Vertex<T>, Vertex<T>> dijkstra(T source) {
-        Vertex<T> s = getVertex(source);
+    private static void append(AdjacencyList list, long[] arcs, int from, int to) {
+        list.ensureCapacity(list.size() + to - from);
+        for (int e = from; e < to; e++) {
+            list.add((int) (arcs[e] >>> 32), (int) arcs[e]);
+        }
+    }
 
-        if (s == null) {
+    public DynamicShortestPaths<T> monitor(T source) {
+        Vertex<T> v = getVertex(source);
+        if (v == null) {
             throw new IllegalArgumentException("Vertex does not exist");
         }
-
-        Map<Vertex<T>, Vertex<T>> previous = new HashMap<>();
-        PriorityQueue<Vertex<T>> queue = new PriorityQueue<>(Comparator.comparingInt(Vertex::getDistance));
-        s.setDistance(0);
-
         for (Vertex<T> u : this.vertices) {
-            if (!u.equals(s)) {
-                u.setDistance(Integer.MAX_VALUE);
-            }
-            previous.put(u, null);
-            queue.add(u);
-        }
-
-        while (!queue.isEmpty()) {
-            Vertex<T> u = queue.poll();
-            for (Vertex<T> v : u.getAdjacent().keySet()) {
-                int alt = u.getDistance() + u.getAdjacent().get(v);
-                if (alt < v.getDistance()) {
-                    v.setDistance(alt);
-                    previous.put(v, u);
-                    queue.remove(v);
-                    queue.add(v);
+            AdjacencyList out = u.getAdjacencyList();
+            for (int slot = 0; slot < out.size(); slot++) {
+                if (out.weight(slot) < 0) {
+                    throw new IllegalArgumentException("Monitored graphs cannot have negative weights");
                 }
             }
         }
 
-        return previous;
+        DynamicShortestPaths<T> monitor = new DynamicShortestPaths<>(this, v);
+        this.monitors.add(monitor);
+        return monitor;
+    }
+
+    public void unmonitor(DynamicShortestPaths<T> monitor) {
+        if (this.monitors.remove(monitor)) {
+            monitor.close();
+        }
+    }
+
+    private void checkMonitoredWeight(int weight) {
+        if (weight < 0 && !this.monitors.isEmpty()) {
+            throw new IllegalArgumentException("Monitored graphs cannot have negative weights");
+        }
     }
 
     @Override
-    public Vertex<T>[][] floydWarshall() {
-        int[][] dist = new int[this.vertices.size()][this.vertices.size()];
-        Vertex<T>[][] prev = new Vertex[this.vertices.size()][this.vertices.size()];
-
-        for (int i = 0; i < this.vertices.size(); i++) {
-            for (int j = 0; j < this.vertices.size(); j++) {
-                if (i == j) {
-                    dist[i][j] = 0;
-                } else {
-                    dist[i][j] = Integer.MAX_VALUE;
-                }
-                prev[i][j] = null;
-            }
+    public void removeVertex(T vertex) {
+        GraphMetrics metrics = GraphMetrics.installed();
+        long started = Instrumentation.start(metrics);
+        Vertex<T> v = getVertex(vertex);
+        if (v == null) {
+            throw new IllegalArgumentException("Vertex does not exist");
         }
 
-        for (int i = 0; i < this.vertices.size(); i++) {
-            Vertex<T> u = this.vertices.get(i);
-            for (Vertex<T> v : u.getAdjacent().keySet()) {
-                dist[i][this.vertices.indexOf(v)] = u.getAdjacent().get(v);
-                prev[i][this.vertices.indexOf(v)] = u;
+        detach(this.vertices, v, this.directed);
+        this.index.remove(vertex);
+        this.snapshot = null;
+        this.version++;
+
+        Iterator<DynamicShortestPaths<T>> monitors = this.monitors.iterator();
+        while (monitors.hasNext()) {
+            DynamicShortestPaths<T> monitor = monitors.next();
+            if (Objects.equals(monitor.getSource(), vertex)) {
+                monitor.close();
+                monitors.remove();
+            } else {
+                monitor.recompute();
             }
         }
+        Instrumentation.mutation(metrics, GraphOperation.REMOVE_VERTEX, started, 1, 0);
+    }
 
-        for (int k = 0; k < this.vertices.size(); k++) {
-            for (int i = 0; i < this.vertices.size(); i++) {
-                for (int j = 0; j < this.vertices.size(); j++) {
-                    if (dist[i][k] == Integer.MAX_VALUE || dist[k][j] == Integer.MAX_VALUE) {
-                        continue;
-                    }
-                    if (dist[i][j] > dist[i][k] + dist[k][j]) {
-                        dist[i][j] = dist[i][k] + dist[k][j];
-                        prev[i][j] = prev[k][j];
-                    }
-                }
+    @Override
+    public void removeEdge(T source, T destination) {
+        GraphMetrics metrics = GraphMetrics.installed();
+        long started = Instrumentation.start(metrics);
+        Vertex<T> vertex1 = getVertex(source);
+        Vertex<T> vertex2 = getVertex(destination);
+
+        if (vertex1 == null || vertex2 == null) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+
+        unlink(vertex1, vertex2, this.directed);
+        this.snapshot = null;
+        this.version++;
+        for (DynamicShortestPaths<T> monitor : this.monitors) {
+            monitor.edgeIncreased(vertex1.getId(), vertex2.getId());
+            if (!this.directed) {
+                monitor.edgeIncreased(vertex2.getId(), vertex1.getId());
             }
         }
+        Instrumentation.mutation(metrics, GraphOperation.REMOVE_EDGE, started, 0, 1);
+    }
 
-        return prev;
+    static <T> void link(Vertex<T> vertex1, Vertex<T> vertex2, int weight, boolean directed) {
+        if (vertex1.getAdjacencyList().contains(vertex2.getId())) {
+            throw new IllegalArgumentException("Edge already exists");
+        }
+
+        vertex1.getAdjacencyList().add(vertex2.getId(), weight);
+        if (directed) {
+            vertex2.getIncomingList().add(vertex1.getId(), weight);
+        } else if (vertex1 != vertex2) {
+            vertex2.getAdjacencyList().add(vertex1.getId(), weight);
+        }
     }
 
-    @Override
-    public void prim(T source) {
-        Vertex<T> s = getVertex(source);
+    static <T> void unlink(Vertex<T> vertex1, Vertex<T> vertex2, boolean directed) {
+        if (!vertex1.getAdjacencyList().remove(vertex2.getId())) {
+            throw new IllegalArgumentException("Edge does not exist");
+        }
 
-        if (s == null) {
-            throw new IllegalArgumentException("Vertex does not exist");
+        if (directed) {
+            vertex2.getIncomingList().remove(vertex1.getId());
+        } else {
+            vertex2.getAdjacencyList().remove(vertex1.getId());
         }
+    }
 
-        for (Vertex<T> u : this.vertices) {
-            u.setDistance(Integer.MAX_VALUE);
-            u.setParent(null);
-            u.setColor("white");
+    static <T> void detach(ArrayList<Vertex<T>> vertices, Vertex<T> v, boolean directed) {
+        int id = v.getId();
+        AdjacencyList out = v.getAdjacencyList();
+        for (int i = 0; i < out.size(); i++) {
+            Vertex<T> u = vertices.get(out.target(i));
+            if (directed) {
+                u.getIncomingList().remove(id);
+            } else if (u != v) {
+                u.getAdjacencyList().remove(id);
+            }
+        }
+        if (directed) {
+            AdjacencyList in = v.getIncomingList();
+            for (int i = 0; i < in.size(); i++) {
+                vertices.get(in.target(i)).getAdjacencyList().remove(id);
+            }
         }
+        out.clear();
 
-        s.setDistance(0);
-        s.setParent(null);
+        Vertex<T> last = vertices.get(vertices.size() - 1);
+        if (last != v) {
+            renumber(vertices, last, id, directed);
+            vertices.set(id, last);
+        }
+        vertices.remove(vertices.size() - 1);
+    }
 
-        PriorityQueue<Vertex<T>> queue = new PriorityQueue<>(Comparator.comparingInt(Vertex::getDistance));
-        queue.addAll(this.vertices);
+    private static <T> void renumber(ArrayList<Vertex<T>> vertices, Vertex<T> vertex, int id, boolean directed) {
+        int old = vertex.getId();
+        AdjacencyList out = vertex.getAdjacencyList();
 
-        while (!queue.isEmpty()) {
-            Vertex<T> u = queue.poll();
-            for (Vertex<T> v : u.getAdjacent().keySet()) {
-                if (queue.contains(v) && u.getAdjacent().get(v) < v.getDistance()) {
-                    v.setParent(u);
-                    v.setDistance(u.getAdjacent().get(v));
-                    queue.remove(v);
-                    queue.add(v);
-                }
+        for (int i = 0; i < out.size(); i++) {
+            int u = out.target(i);
+            if (directed) {
+                vertices.get(u).getIncomingList().replace(old, id);
+            } else if (u != old) {
+                vertices.get(u).getAdjacencyList().replace(old, id);
             }
-            u.setColor("black");
         }
+        if (directed) {
+            AdjacencyList in = vertex.getIncomingList();
+            for (int i = 0; i < in.size(); i++) {
+                vertices.get(in.target(i)).getAdjacencyList().replace(old, id);
+            }
+        }
+        out.replace(old, id);
+
+        vertex.setId(id);
+    }
+
+    @Override
+    public CsrGraph<T> freeze() {
+        CsrGraph<T> graph = this.snapshot;
+        if (graph == null) {
+            graph = CsrGraph.of(this.vertices, this.directed);
+            this.snapshot = graph;
+        }
+        return graph;
+    }
+
+    public long getVersion() {
+        return this.version;
+    }
+
+    public void write(Path path, ValueCodec<T> codec) throws IOException {
+        GraphFile.write(freeze(), codec, path);
     }
 
     private Vertex<T> getVertex(T value) {
-        for (Vertex<T> vertex : this.vertices) {
-            if (vertex.getValue().equals(value)) {
-                return vertex;
-            }
+        return this.index.get(value);
+    }
+
+    public boolean containsVertex(T value) {
+        return this.index.containsKey(value);
+    }
+
+    public int indexOf(T value) {
+        Vertex<T> v = getVertex(value);
+        if (v == null) {
+            throw new IllegalArgumentException("Vertex does not exist");
         }
-        return null;
+        return v.getId();
     }
 
     public boolean isDirected() {
         return this.directed;
     }
 
+    @Override
     public ArrayList<Vertex<T>> getVertices() {
         return this.vertices;
     }
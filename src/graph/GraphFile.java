@@ -0,0 +1,200 @@
+package graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+final class GraphFile {
+    static final int MAGIC = 0x48505247;
+    static final int VERSION = 1;
+    static final int DIRECTED = 1;
+    static final int HEADER_SIZE = 112;
+
+    static final int FLAGS = 8;
+    static final int CODEC = 12;
+    static final int VERTEX_COUNT = 16;
+    static final int EDGE_COUNT = 24;
+    static final int INDEX_CAPACITY = 32;
+    static final int VALUE_OFFSETS = 40;
+    static final int VALUE_DATA = 48;
+    static final int INDEX = 56;
+    static final int OFFSETS = 64;
+    static final int TARGETS = 72;
+    static final int WEIGHTS = 80;
+    static final int REVERSE_OFFSETS = 88;
+    static final int REVERSE_TARGETS = 96;
+    static final int REVERSE_WEIGHTS = 104;
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long position;
+
+    private GraphFile(FileChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    static <T> void write(IndexedGraph<T> graph, ValueCodec<T> codec, Path path) throws IOException {
+        int n = graph.vertexCount();
+        int m = graph.edgeCount();
+        byte[][] values = new byte[n][];
+        long valueBytes = 0;
+
+        for (int i = 0; i < n; i++) {
+            values[i] = codec.encode(graph.value(i));
+            valueBytes += values[i].length;
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(1, n)) << 2;
+        int[] index = new int[capacity];
+        for (int i = 0; i < n; i++) {
+            int slot = hash(values[i]) & (capacity - 1);
+            while (index[slot] != 0) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            index[slot] = i + 1;
+        }
+
+        IndexedGraph<T> reverse = graph.isDirected() ? graph.reverse() : null;
+        long valueOffsets = HEADER_SIZE;
+        long valueData = valueOffsets + 8L * (n + 1);
+        long indexStart = align(valueData + valueBytes);
+        long offsets = indexStart + 4L * capacity;
+        long targets = align(offsets + 4L * (n + 1));
+        long weights = align(targets + 4L * m);
+        long end = align(weights + 4L * m);
+        long reverseOffsets = reverse == null ? 0 : end;
+        long reverseTargets = reverse == null ? 0 : align(reverseOffsets + 4L * (n + 1));
+        long reverseWeights = reverse == null ? 0 : align(reverseTargets + 4L * m);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            GraphFile out = new GraphFile(channel);
+
+            out.putInt(MAGIC);
+            out.putInt(VERSION);
+            out.putInt(graph.isDirected() ? DIRECTED : 0);
+            out.putInt(codec.tag());
+            out.putLong(n);
+            out.putLong(m);
+            out.putLong(capacity);
+            out.putLong(valueOffsets);
+            out.putLong(valueData);
+            out.putLong(indexStart);
+            out.putLong(offsets);
+            out.putLong(targets);
+            out.putLong(weights);
+            out.putLong(reverseOffsets);
+            out.putLong(reverseTargets);
+            out.putLong(reverseWeights);
+
+            long offset = 0;
+            for (int i = 0; i < n; i++) {
+                out.putLong(offset);
+                offset += values[i].length;
+            }
+            out.putLong(offset);
+            for (byte[] value : values) {
+                out.put(value);
+            }
+
+            out.pad(indexStart);
+            for (int slot : index) {
+                out.putInt(slot);
+            }
+            out.putEdges(graph, offsets);
+            if (reverse != null) {
+                out.putEdges(reverse, reverseOffsets);
+            }
+            out.flush();
+        }
+    }
+
+    static int hash(byte[] bytes) {
+        int h = 0x811C9DC5;
+        for (byte b : bytes) {
+            h = (h ^ (b & 0xFF)) * 0x01000193;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+
+    private void putEdges(IndexedGraph<?> graph, long start) throws IOException {
+        int n = graph.vertexCount();
+        int offset = 0;
+
+        pad(start);
+        for (int v = 0; v < n; v++) {
+            putInt(offset);
+            offset += graph.endEdge(v) - graph.firstEdge(v);
+        }
+        putInt(offset);
+
+        pad(align(this.position));
+        for (int v = 0; v < n; v++) {
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                putInt(graph.target(e));
+            }
+        }
+
+        pad(align(this.position));
+        for (int v = 0; v < n; v++) {
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                putInt(graph.weight(e));
+            }
+        }
+        pad(align(this.position));
+    }
+
+    private void putInt(int value) throws IOException {
+        reserve(4);
+        this.buffer.putInt(value);
+        this.position += 4;
+    }
+
+    private void putLong(long value) throws IOException {
+        reserve(8);
+        this.buffer.putLong(value);
+        this.position += 8;
+    }
+
+    private void put(byte[] bytes) throws IOException {
+        for (int i = 0; i < bytes.length; ) {
+            reserve(1);
+            int length = Math.min(bytes.length - i, this.buffer.remaining());
+            this.buffer.put(bytes, i, length);
+            i += length;
+        }
+        this.position += bytes.length;
+    }
+
+    private void pad(long position) throws IOException {
+        while (this.position < position) {
+            reserve(1);
+            this.buffer.put((byte) 0);
+            this.position++;
+        }
+    }
+
+    private void reserve(int bytes) throws IOException {
+        if (this.buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+}
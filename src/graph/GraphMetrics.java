@@ -0,0 +1,33 @@
+package graph;
+
+public interface GraphMetrics {
+
+    GraphMetrics NOOP = new GraphMetrics() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void record(GraphOperation operation, long nanos, long vertices, long edges, long heapOperations,
+                           long peakQueue, long allocatedBytes) {
+        }
+    };
+
+    boolean isEnabled();
+
+    void record(GraphOperation operation, long nanos, long vertices, long edges, long heapOperations,
+                long peakQueue, long allocatedBytes);
+
+    static GraphMetrics installed() {
+        return Instrumentation.metrics;
+    }
+
+    static void install(GraphMetrics metrics) {
+        Instrumentation.metrics = metrics == null ? NOOP : metrics;
+    }
+
+    static void uninstall() {
+        Instrumentation.metrics = NOOP;
+    }
+}
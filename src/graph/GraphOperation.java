@@ -0,0 +1,16 @@
+package graph;
+
+public enum GraphOperation {
+    ADD_VERTEX,
+    ADD_EDGE,
+    ADD_EDGES,
+    UPDATE_EDGE,
+    REMOVE_VERTEX,
+    REMOVE_EDGE,
+    BREADTH_FIRST_SEARCH,
+    DIJKSTRA,
+    DELTA_STEPPING,
+    PRIM,
+    BIDIRECTIONAL_SEARCH,
+    A_STAR
+}
@@ -0,0 +1,248 @@
+package graph;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+public class GraphQueryService<T> implements AutoCloseable {
+    private static final long DEFAULT_ADMISSION_MILLIS = 1000;
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "graph-query-timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final IndexedGraph<T> snapshot;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final Semaphore permits;
+    private final long admissionNanos;
+    private final long timeoutNanos;
+    private final LongAdder completed;
+    private final LongAdder rejected;
+    private final LongAdder timedOut;
+
+    public GraphQueryService(AbstractGraph<T> graph, int maxConcurrent) {
+        this(graph.freeze(), maxConcurrent, DEFAULT_ADMISSION_MILLIS, 0, TimeUnit.MILLISECONDS);
+    }
+
+    public GraphQueryService(IndexedGraph<T> snapshot, int maxConcurrent, long admissionTimeout, long queryTimeout,
+                             TimeUnit unit) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+
+        ExecutorService virtual = newVirtualThreadExecutor();
+        snapshot.reverse();
+        this.snapshot = snapshot;
+        this.virtualThreads = virtual != null;
+        this.executor = virtual != null ? virtual : Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "graph-query");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.admissionNanos = unit.toNanos(admissionTimeout);
+        this.timeoutNanos = unit.toNanos(queryTimeout);
+        this.completed = new LongAdder();
+        this.rejected = new LongAdder();
+        this.timedOut = new LongAdder();
+    }
+
+    public <R> CompletableFuture<R> submit(Function<? super IndexedGraph<T>, ? extends R> query) {
+        return schedule((graph, cancellation) -> query.apply(graph));
+    }
+
+    private <R> CompletableFuture<R> schedule(BiFunction<IndexedGraph<T>, Cancellation, ? extends R> query) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        Task<R> task = new Task<>(query, future);
+
+        try {
+            if (this.permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                start(task);
+            } else if (this.admissionNanos > 0) {
+                this.executor.execute(() -> admit(task));
+            } else {
+                reject(future, new RejectedExecutionException("Too many concurrent queries"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(e);
+        } catch (RejectedExecutionException e) {
+            reject(future, e);
+        }
+
+        return future;
+    }
+
+    public CompletableFuture<BFSResult<T>> breadthFirstSearch(T source) {
+        return schedule((graph, cancellation) -> BreadthFirstSearch.run(graph, graph.indexOf(source), cancellation));
+    }
+
+    public CompletableFuture<MultiSourceBFSResult<T>> multiSourceBreadthFirstSearch(Collection<? extends T> sources,
+                                                                                    int maxDepth) {
+        return schedule((graph, cancellation) -> {
+            int[] ids = new int[sources.size()];
+            int i = 0;
+            for (T source : sources) {
+                ids[i++] = graph.indexOf(source);
+            }
+            return MultiSourceBreadthFirstSearch.run(graph, ids, maxDepth, ForkJoinPool.commonPool(), cancellation);
+        });
+    }
+
+    public CompletableFuture<ShortestPathTree<T>> shortestPaths(T source) {
+        return schedule((graph, cancellation) -> Dijkstra.run(graph, graph.indexOf(source), cancellation));
+    }
+
+    public CompletableFuture<Path<T>> shortestPath(T source, T target) {
+        return schedule((graph, cancellation) -> PointToPointSearch.bidirectional(graph, graph.indexOf(source),
+                graph.indexOf(target), cancellation));
+    }
+
+    public IndexedGraph<T> getSnapshot() {
+        return this.snapshot;
+    }
+
+    public boolean usesVirtualThreads() {
+        return this.virtualThreads;
+    }
+
+    public int getAvailablePermits() {
+        return this.permits.availablePermits();
+    }
+
+    public long getCompletedCount() {
+        return this.completed.sum();
+    }
+
+    public long getRejectedCount() {
+        return this.rejected.sum();
+    }
+
+    public long getTimedOutCount() {
+        return this.timedOut.sum();
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdown();
+    }
+
+    private <R> void admit(Task<R> task) {
+        try {
+            if (this.permits.tryAcquire(this.admissionNanos, TimeUnit.NANOSECONDS)) {
+                arm(task);
+                task.run();
+            } else {
+                reject(task.future, new RejectedExecutionException("Too many concurrent queries"));
+            }
+        } catch (InterruptedException e) {
+            task.future.completeExceptionally(e);
+        }
+    }
+
+    private <R> void start(Task<R> task) {
+        arm(task);
+        try {
+            this.executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            this.permits.release();
+            reject(task.future, e);
+        }
+    }
+
+    private <R> void arm(Task<R> task) {
+        if (this.timeoutNanos > 0) {
+            ScheduledFuture<?> timeout = TIMER.schedule(() -> {
+                this.timedOut.increment();
+                if (task.future.completeExceptionally(new TimeoutException("Query timed out"))) {
+                    task.cancel();
+                } else {
+                    this.timedOut.decrement();
+                }
+            }, this.timeoutNanos, TimeUnit.NANOSECONDS);
+            task.future.whenComplete((result, error) -> timeout.cancel(false));
+        }
+    }
+
+    private void reject(CompletableFuture<?> future, RejectedExecutionException error) {
+        this.rejected.increment();
+        future.completeExceptionally(error);
+    }
+
+    private final class Task<R> implements Runnable {
+        private final BiFunction<IndexedGraph<T>, Cancellation, ? extends R> query;
+        private final CompletableFuture<R> future;
+        private final Cancellation cancellation;
+        private Thread runner;
+
+        Task(BiFunction<IndexedGraph<T>, Cancellation, ? extends R> query, CompletableFuture<R> future) {
+            this.query = query;
+            this.future = future;
+            this.cancellation = new Cancellation();
+        }
+
+        @Override
+        public void run() {
+            R result = null;
+            Throwable error = null;
+
+            try {
+                if (!start()) {
+                    return;
+                }
+                try {
+                    result = this.query.apply(GraphQueryService.this.snapshot, this.cancellation);
+                } catch (Throwable t) {
+                    error = t;
+                } finally {
+                    finish();
+                }
+            } finally {
+                GraphQueryService.this.permits.release();
+            }
+
+            if (error != null) {
+                this.future.completeExceptionally(error);
+            } else {
+                GraphQueryService.this.completed.increment();
+                if (!this.future.complete(result)) {
+                    GraphQueryService.this.completed.decrement();
+                }
+            }
+        }
+
+        synchronized void cancel() {
+            this.cancellation.cancel();
+            if (this.runner != null) {
+                this.runner.interrupt();
+            }
+        }
+
+        private synchronized boolean start() {
+            if (this.cancellation.isCancelled() || this.future.isDone()) {
+                return false;
+            }
+            this.runner = Thread.currentThread();
+            return true;
+        }
+
+        private void finish() {
+            synchronized (this) {
+                this.runner = null;
+            }
+            Thread.interrupted();
+        }
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package graph;
+
+public interface Heuristic<T> {
+
+    int estimate(T vertex, T target);
+}
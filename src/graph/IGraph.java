@@ -21,4 +21,36 @@ public interface IGraph<T> {
     Vertex<T>[][] floydWarshall();
 
     void prim(T source);
+
+    BFSResult<T> breadthFirstSearch(T source);
+
+    BFSResult<T> parallelBreadthFirstSearch(T source);
+
+    MultiSourceBFSResult<T> multiSourceBreadthFirstSearch(Collection<? extends T> sources);
+
+    MultiSourceBFSResult<T> multiSourceBreadthFirstSearch(Collection<? extends T> sources, int maxDepth);
+
+    DFSResult<T> depthFirstSearch(T source);
+
+    DFSResult<T> depthFirstSearch();
+
+    ShortestPathTree<T> shortestPaths(T source);
+
+    ShortestPathTree<T> parallelShortestPaths(T source);
+
+    ShortestPathTree<T> parallelShortestPaths(T source, int delta);
+
+    SpanningTree<T> minimumSpanningTree(T source);
+
+    MinimumSpanningForest<T> minimumSpanningForest();
+
+    Components<T> connectedComponents();
+
+    Components<T> stronglyConnectedComponents();
+
+    Path<T> shortestPath(T source, T target);
+
+    Path<T> shortestPath(T source, T target, Heuristic<T> heuristic);
+
+    AllPairsShortestPaths<T> allPairsShortestPaths();
 }
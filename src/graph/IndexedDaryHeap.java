@@ -0,0 +1,167 @@
+package graph;
+
+import java.util.*;
+
+public class IndexedDaryHeap {
+    private static final int DEFAULT_ARITY = 4;
+
+    private final int arity;
+    private final int[] heap;
+    private final int[] position;
+    private final long[] key;
+    private int size;
+
+    public IndexedDaryHeap(int capacity) {
+        this(capacity, DEFAULT_ARITY);
+    }
+
+    public IndexedDaryHeap(int capacity, int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2");
+        }
+
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.key = new long[capacity];
+        Arrays.fill(this.position, -1);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public boolean contains(int id) {
+        return this.position[id] != -1;
+    }
+
+    public long key(int id) {
+        return this.key[id];
+    }
+
+    public int peek() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return this.heap[0];
+    }
+
+    public long peekKey() {
+        return this.key[peek()];
+    }
+
+    public void insert(int id, long key) {
+        if (this.position[id] != -1) {
+            throw new IllegalArgumentException("Element already in heap");
+        }
+
+        this.key[id] = key;
+        this.heap[this.size] = id;
+        this.position[id] = this.size;
+        this.size++;
+        siftUp(this.size - 1);
+    }
+
+    public void decreaseKey(int id, long key) {
+        if (this.position[id] == -1) {
+            throw new IllegalArgumentException("Element not in heap");
+        }
+        if (key > this.key[id]) {
+            throw new IllegalArgumentException("Key is greater than the current key");
+        }
+
+        this.key[id] = key;
+        siftUp(this.position[id]);
+    }
+
+    public boolean insertOrDecrease(int id, long key) {
+        if (this.position[id] == -1) {
+            insert(id, key);
+            return true;
+        }
+        if (key < this.key[id]) {
+            this.key[id] = key;
+            siftUp(this.position[id]);
+            return true;
+        }
+        return false;
+    }
+
+    public int poll() {
+        int min = peek();
+
+        this.size--;
+        this.position[min] = -1;
+        if (this.size > 0) {
+            int last = this.heap[this.size];
+            this.heap[0] = last;
+            this.position[last] = 0;
+            siftDown(0);
+        }
+
+        return min;
+    }
+
+    public void clear() {
+        for (int i = 0; i < this.size; i++) {
+            this.position[this.heap[i]] = -1;
+        }
+        this.size = 0;
+    }
+
+    private void siftUp(int i) {
+        int id = this.heap[i];
+        long k = this.key[id];
+
+        while (i > 0) {
+            int p = (i - 1) / this.arity;
+            int parent = this.heap[p];
+            if (this.key[parent] <= k) {
+                break;
+            }
+            this.heap[i] = parent;
+            this.position[parent] = i;
+            i = p;
+        }
+
+        this.heap[i] = id;
+        this.position[id] = i;
+    }
+
+    private void siftDown(int i) {
+        int id = this.heap[i];
+        long k = this.key[id];
+
+        while (true) {
+            int first = i * this.arity + 1;
+            if (first >= this.size) {
+                break;
+            }
+
+            int last = Math.min(first + this.arity, this.size);
+            int best = first;
+            long bestKey = this.key[this.heap[first]];
+            for (int c = first + 1; c < last; c++) {
+                long ck = this.key[this.heap[c]];
+                if (ck < bestKey) {
+                    best = c;
+                    bestKey = ck;
+                }
+            }
+
+            if (bestKey >= k) {
+                break;
+            }
+            this.heap[i] = this.heap[best];
+            this.position[this.heap[i]] = i;
+            i = best;
+        }
+
+        this.heap[i] = id;
+        this.position[id] = i;
+    }
+}
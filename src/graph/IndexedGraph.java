@@ -0,0 +1,24 @@
+package graph;
+
+public interface IndexedGraph<T> {
+
+    int vertexCount();
+
+    int edgeCount();
+
+    boolean isDirected();
+
+    T value(int id);
+
+    int indexOf(T value);
+
+    int firstEdge(int vertex);
+
+    int endEdge(int vertex);
+
+    int target(int edge);
+
+    int weight(int edge);
+
+    IndexedGraph<T> reverse();
+}
@@ -0,0 +1,18 @@
+package graph;
+
+final class Instrumentation {
+    static volatile GraphMetrics metrics = GraphMetrics.NOOP;
+
+    private Instrumentation() {
+    }
+
+    static long start(GraphMetrics metrics) {
+        return metrics.isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    static void mutation(GraphMetrics metrics, GraphOperation operation, long start, long vertices, long edges) {
+        if (metrics.isEnabled()) {
+            metrics.record(operation, System.nanoTime() - start, vertices, edges, 0, 0, 0);
+        }
+    }
+}
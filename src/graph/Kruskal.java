@@ -0,0 +1,87 @@
+package graph;
+
+import java.util.*;
+
+public final class Kruskal {
+
+    private Kruskal() {
+    }
+
+    public static <T> MinimumSpanningForest<T> run(IndexedGraph<T> graph) {
+        int[][] edges = edges(graph);
+        int[] sources = edges[0];
+        int[] targets = edges[1];
+        int[] weights = edges[2];
+        long[] order = new long[sources.length];
+
+        for (int e = 0; e < order.length; e++) {
+            order[e] = key(weights[e], e);
+        }
+        Arrays.parallelSort(order);
+
+        DisjointSet components = new DisjointSet(graph.vertexCount());
+        int[] chosen = new int[Math.max(0, graph.vertexCount() - 1)];
+        int count = 0;
+
+        for (int i = 0; i < order.length && count < chosen.length; i++) {
+            int e = (int) order[i];
+            if (components.union(sources[e], targets[e])) {
+                chosen[count++] = e;
+            }
+        }
+
+        return forest(graph, edges, chosen, count);
+    }
+
+    static long key(int weight, int edge) {
+        return ((long) weight << 32) | (edge & 0xFFFFFFFFL);
+    }
+
+    static int[][] edges(IndexedGraph<?> graph) {
+        int n = graph.vertexCount();
+        int count = 0;
+
+        for (int u = 0; u < n; u++) {
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                if (keep(graph, u, graph.target(e))) {
+                    count++;
+                }
+            }
+        }
+
+        int[] sources = new int[count];
+        int[] targets = new int[count];
+        int[] weights = new int[count];
+        count = 0;
+        for (int u = 0; u < n; u++) {
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                int v = graph.target(e);
+                if (keep(graph, u, v)) {
+                    sources[count] = u;
+                    targets[count] = v;
+                    weights[count++] = graph.weight(e);
+                }
+            }
+        }
+
+        return new int[][]{sources, targets, weights};
+    }
+
+    static <T> MinimumSpanningForest<T> forest(IndexedGraph<T> graph, int[][] edges, int[] chosen, int count) {
+        int[] sources = new int[count];
+        int[] targets = new int[count];
+        int[] weights = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            sources[i] = edges[0][chosen[i]];
+            targets[i] = edges[1][chosen[i]];
+            weights[i] = edges[2][chosen[i]];
+        }
+
+        return new MinimumSpanningForest<>(graph, sources, targets, weights);
+    }
+
+    private static boolean keep(IndexedGraph<?> graph, int u, int v) {
+        return u != v && (graph.isDirected() || u < v);
+    }
+}
@@ -0,0 +1,60 @@
+package graph;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+final class MappedFile {
+    private static final int CHUNK_BITS = 30;
+    private static final long CHUNK_MASK = (1L << CHUNK_BITS) - 1;
+
+    private final MappedByteBuffer[] chunks;
+    private final long size;
+
+    private MappedFile(MappedByteBuffer[] chunks, long size) {
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    static MappedFile map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MappedByteBuffer[] chunks = new MappedByteBuffer[(int) ((size + CHUNK_MASK) >>> CHUNK_BITS)];
+
+            for (int i = 0; i < chunks.length; i++) {
+                long start = (long) i << CHUNK_BITS;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(CHUNK_MASK + 1, size - start));
+                chunks[i].order(ByteOrder.LITTLE_ENDIAN);
+            }
+
+            return new MappedFile(chunks, size);
+        }
+    }
+
+    long size() {
+        return this.size;
+    }
+
+    int getInt(long position) {
+        return this.chunks[(int) (position >>> CHUNK_BITS)].getInt((int) (position & CHUNK_MASK));
+    }
+
+    long getLong(long position) {
+        return this.chunks[(int) (position >>> CHUNK_BITS)].getLong((int) (position & CHUNK_MASK));
+    }
+
+    void get(long position, byte[] bytes) {
+        for (int i = 0; i < bytes.length; ) {
+            MappedByteBuffer chunk = this.chunks[(int) ((position + i) >>> CHUNK_BITS)];
+            int offset = (int) ((position + i) & CHUNK_MASK);
+            int length = Math.min(bytes.length - i, chunk.limit() - offset);
+            for (int j = 0; j < length; j++) {
+                bytes[i + j] = chunk.get(offset + j);
+            }
+            i += length;
+        }
+    }
+}
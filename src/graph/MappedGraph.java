@@ -0,0 +1,184 @@
+package graph;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+
+public class MappedGraph<T> extends AbstractGraph<T> implements IndexedGraph<T> {
+    private final MappedFile file;
+    private final ValueCodec<T> codec;
+    private final boolean directed;
+    private final int vertexCount;
+    private final int edgeCount;
+    private final int indexMask;
+    private final long valueOffsets;
+    private final long valueData;
+    private final long index;
+    private final long offsets;
+    private final long targets;
+    private final long weights;
+    private final MappedGraph<T> reverse;
+    private ArrayList<Vertex<T>> vertices;
+
+    private MappedGraph(MappedFile file, ValueCodec<T> codec) {
+        this.file = file;
+        this.codec = codec;
+        this.directed = (file.getInt(GraphFile.FLAGS) & GraphFile.DIRECTED) != 0;
+        this.vertexCount = (int) file.getLong(GraphFile.VERTEX_COUNT);
+        this.edgeCount = (int) file.getLong(GraphFile.EDGE_COUNT);
+        this.indexMask = (int) file.getLong(GraphFile.INDEX_CAPACITY) - 1;
+        this.valueOffsets = file.getLong(GraphFile.VALUE_OFFSETS);
+        this.valueData = file.getLong(GraphFile.VALUE_DATA);
+        this.index = file.getLong(GraphFile.INDEX);
+        this.offsets = file.getLong(GraphFile.OFFSETS);
+        this.targets = file.getLong(GraphFile.TARGETS);
+        this.weights = file.getLong(GraphFile.WEIGHTS);
+        this.reverse = this.directed ? new MappedGraph<>(this) : this;
+    }
+
+    private MappedGraph(MappedGraph<T> graph) {
+        this.file = graph.file;
+        this.codec = graph.codec;
+        this.directed = true;
+        this.vertexCount = graph.vertexCount;
+        this.edgeCount = graph.edgeCount;
+        this.indexMask = graph.indexMask;
+        this.valueOffsets = graph.valueOffsets;
+        this.valueData = graph.valueData;
+        this.index = graph.index;
+        this.offsets = this.file.getLong(GraphFile.REVERSE_OFFSETS);
+        this.targets = this.file.getLong(GraphFile.REVERSE_TARGETS);
+        this.weights = this.file.getLong(GraphFile.REVERSE_WEIGHTS);
+        this.reverse = graph;
+    }
+
+    public static <T> MappedGraph<T> open(Path path, ValueCodec<T> codec) throws IOException {
+        MappedFile file = MappedFile.map(path);
+
+        if (file.size() < GraphFile.HEADER_SIZE || file.getInt(0) != GraphFile.MAGIC) {
+            throw new IOException("Not a graph file: " + path);
+        }
+        if (file.getInt(4) != GraphFile.VERSION) {
+            throw new IOException("Unsupported graph file version: " + file.getInt(4));
+        }
+        if (file.getInt(GraphFile.CODEC) != codec.tag()) {
+            throw new IOException("Graph file was written with a different value codec");
+        }
+
+        return new MappedGraph<>(file, codec);
+    }
+
+    public static <T> void write(IndexedGraph<T> graph, ValueCodec<T> codec, Path path) throws IOException {
+        GraphFile.write(graph, codec, path);
+    }
+
+    @Override
+    public void addVertex(T vertex) {
+        throw new UnsupportedOperationException("Graph is immutable");
+    }
+
+    @Override
+    public void addEdge(T source, T destination, int weight) {
+        throw new UnsupportedOperationException("Graph is immutable");
+    }
+
+    @Override
+    public void removeVertex(T vertex) {
+        throw new UnsupportedOperationException("Graph is immutable");
+    }
+
+    @Override
+    public void removeEdge(T vertex1, T vertex2) {
+        throw new UnsupportedOperationException("Graph is immutable");
+    }
+
+    @Override
+    public MappedGraph<T> freeze() {
+        return this;
+    }
+
+    @Override
+    public MappedGraph<T> reverse() {
+        return this.reverse;
+    }
+
+    @Override
+    public T value(int id) {
+        return this.codec.decode(valueBytes(id));
+    }
+
+    @Override
+    public int indexOf(T value) {
+        byte[] key = this.codec.encode(value);
+
+        for (int i = GraphFile.hash(key) & this.indexMask; ; i = (i + 1) & this.indexMask) {
+            int slot = this.file.getInt(this.index + 4L * i);
+            if (slot == 0) {
+                throw new IllegalArgumentException("Vertex does not exist");
+            }
+            if (matches(slot - 1, key)) {
+                return slot - 1;
+            }
+        }
+    }
+
+    @Override
+    public int vertexCount() {
+        return this.vertexCount;
+    }
+
+    @Override
+    public int edgeCount() {
+        return this.edgeCount;
+    }
+
+    @Override
+    public int firstEdge(int vertex) {
+        return this.file.getInt(this.offsets + 4L * vertex);
+    }
+
+    @Override
+    public int endEdge(int vertex) {
+        return this.file.getInt(this.offsets + 4L * (vertex + 1));
+    }
+
+    @Override
+    public int target(int edge) {
+        return this.file.getInt(this.targets + 4L * edge);
+    }
+
+    @Override
+    public int weight(int edge) {
+        return this.file.getInt(this.weights + 4L * edge);
+    }
+
+    @Override
+    public boolean isDirected() {
+        return this.directed;
+    }
+
+    @Override
+    public synchronized ArrayList<Vertex<T>> getVertices() {
+        if (this.vertices == null) {
+            this.vertices = new ArrayList<>(this.vertexCount);
+            for (int i = 0; i < this.vertexCount; i++) {
+                this.vertices.add(new Vertex<>(value(i), i));
+            }
+        }
+        return this.vertices;
+    }
+
+    private byte[] valueBytes(int id) {
+        long start = this.file.getLong(this.valueOffsets + 8L * id);
+        long end = this.file.getLong(this.valueOffsets + 8L * (id + 1));
+        byte[] bytes = new byte[(int) (end - start)];
+        this.file.get(this.valueData + start, bytes);
+        return bytes;
+    }
+
+    private boolean matches(int id, byte[] key) {
+        long start = this.file.getLong(this.valueOffsets + 8L * id);
+        long end = this.file.getLong(this.valueOffsets + 8L * (id + 1));
+        return end - start == key.length && Arrays.equals(valueBytes(id), key);
+    }
+}
@@ -0,0 +1,73 @@
+package graph;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+public class MetricsRegistry implements GraphMetrics {
+    private final String domain;
+    private final EnumMap<GraphOperation, OperationStats> stats;
+
+    public MetricsRegistry() {
+        this("graph");
+    }
+
+    public MetricsRegistry(String domain) {
+        this.domain = domain;
+        this.stats = new EnumMap<>(GraphOperation.class);
+        for (GraphOperation operation : GraphOperation.values()) {
+            this.stats.put(operation, new OperationStats(operation));
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void record(GraphOperation operation, long nanos, long vertices, long edges, long heapOperations,
+                       long peakQueue, long allocatedBytes) {
+        this.stats.get(operation).record(nanos, vertices, edges, heapOperations, peakQueue, allocatedBytes);
+    }
+
+    public OperationStats get(GraphOperation operation) {
+        return this.stats.get(operation);
+    }
+
+    public Collection<OperationStats> getAll() {
+        return Collections.unmodifiableCollection(this.stats.values());
+    }
+
+    public void reset() {
+        for (OperationStats s : this.stats.values()) {
+            s.reset();
+        }
+    }
+
+    public void registerMBeans() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (OperationStats s : this.stats.values()) {
+            ObjectName name = objectName(s.getOperation());
+            if (!server.isRegistered(name)) {
+                server.registerMBean(s, name);
+            }
+        }
+    }
+
+    public void unregisterMBeans() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (GraphOperation operation : this.stats.keySet()) {
+            ObjectName name = objectName(operation);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        }
+    }
+
+    public ObjectName objectName(GraphOperation operation) throws JMException {
+        return new ObjectName(this.domain + ":type=GraphOperation,name=" + operation.name());
+    }
+}
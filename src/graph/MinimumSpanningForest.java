@@ -0,0 +1,58 @@
+package graph;
+
+public class MinimumSpanningForest<T> {
+    private final IndexedGraph<T> graph;
+    private final int[] sources;
+    private final int[] targets;
+    private final int[] weights;
+    private final long totalWeight;
+
+    MinimumSpanningForest(IndexedGraph<T> graph, int[] sources, int[] targets, int[] weights) {
+        this.graph = graph;
+        this.sources = sources;
+        this.targets = targets;
+        this.weights = weights;
+
+        long total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        this.totalWeight = total;
+    }
+
+    public int size() {
+        return this.sources.length;
+    }
+
+    public int getTreeCount() {
+        return this.graph.vertexCount() - this.sources.length;
+    }
+
+    public T getSource(int edge) {
+        return this.graph.value(this.sources[edge]);
+    }
+
+    public T getTarget(int edge) {
+        return this.graph.value(this.targets[edge]);
+    }
+
+    public int getSourceById(int edge) {
+        return this.sources[edge];
+    }
+
+    public int getTargetById(int edge) {
+        return this.targets[edge];
+    }
+
+    public int getWeight(int edge) {
+        return this.weights[edge];
+    }
+
+    public long getTotalWeight() {
+        return this.totalWeight;
+    }
+
+    public IndexedGraph<T> getGraph() {
+        return this.graph;
+    }
+}
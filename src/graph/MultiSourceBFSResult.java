@@ -0,0 +1,101 @@
+package graph;
+
+import java.util.*;
+
+public class MultiSourceBFSResult<T> {
+    private final IndexedGraph<T> graph;
+    private final int[] sources;
+    private final long[][] reached;
+    private final int[] nearest;
+    private final int maxDepth;
+    private final int[][] distance;
+
+    MultiSourceBFSResult(IndexedGraph<T> graph, int[] sources, long[][] reached, int[] nearest, int maxDepth) {
+        this.graph = graph;
+        this.sources = sources;
+        this.reached = reached;
+        this.nearest = nearest;
+        this.maxDepth = maxDepth;
+        this.distance = new int[sources.length][];
+    }
+
+    public int getSourceCount() {
+        return this.sources.length;
+    }
+
+    public T getSource(int index) {
+        return this.graph.value(this.sources[index]);
+    }
+
+    public int getSourceId(int index) {
+        return this.sources[index];
+    }
+
+    public int getMaxDepth() {
+        return this.maxDepth;
+    }
+
+    public int getDistance(T source, T vertex) {
+        return distances(sourceIndex(this.graph.indexOf(source)))[this.graph.indexOf(vertex)];
+    }
+
+    public int getDistanceById(int index, int vertex) {
+        return distances(index)[vertex];
+    }
+
+    public int[] getDistances(int index) {
+        return distances(index).clone();
+    }
+
+    public boolean isReachable(T source, T vertex) {
+        return isReachableById(sourceIndex(this.graph.indexOf(source)), this.graph.indexOf(vertex));
+    }
+
+    public boolean isReachableById(int index, int vertex) {
+        int batch = MultiSourceBreadthFirstSearch.BATCH;
+        return (this.reached[index / batch][vertex] & (1L << (index % batch))) != 0;
+    }
+
+    public boolean isReachable(T vertex) {
+        return getNearestDistance(vertex) != Integer.MAX_VALUE;
+    }
+
+    public int getNearestDistance(T vertex) {
+        return this.nearest[this.graph.indexOf(vertex)];
+    }
+
+    public int getNearestDistanceById(int id) {
+        return this.nearest[id];
+    }
+
+    public List<T> getVerticesWithin(int hops) {
+        ArrayList<T> vertices = new ArrayList<>();
+        for (int v = 0; v < this.nearest.length; v++) {
+            if (this.nearest[v] <= hops) {
+                vertices.add(this.graph.value(v));
+            }
+        }
+        return vertices;
+    }
+
+    public IndexedGraph<T> getGraph() {
+        return this.graph;
+    }
+
+    private synchronized int[] distances(int index) {
+        if (this.distance[index] == null) {
+            this.distance[index] = MultiSourceBreadthFirstSearch.distances(this.graph, this.sources[index],
+                    this.maxDepth);
+        }
+        return this.distance[index];
+    }
+
+    private int sourceIndex(int id) {
+        for (int i = 0; i < this.sources.length; i++) {
+            if (this.sources[i] == id) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Vertex is not a source");
+    }
+}
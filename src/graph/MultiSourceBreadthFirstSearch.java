@@ -0,0 +1,156 @@
+package graph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public final class MultiSourceBreadthFirstSearch {
+    static final int BATCH = 64;
+
+    private MultiSourceBreadthFirstSearch() {
+    }
+
+    public static <T> MultiSourceBFSResult<T> run(IndexedGraph<T> graph, int[] sources) {
+        return run(graph, sources, Integer.MAX_VALUE, ForkJoinPool.commonPool());
+    }
+
+    public static <T> MultiSourceBFSResult<T> run(IndexedGraph<T> graph, int[] sources, int maxDepth) {
+        return run(graph, sources, maxDepth, ForkJoinPool.commonPool());
+    }
+
+    public static <T> MultiSourceBFSResult<T> run(IndexedGraph<T> graph, int[] sources, int maxDepth,
+                                                  ForkJoinPool pool) {
+        return run(graph, sources, maxDepth, pool, Cancellation.NONE);
+    }
+
+    static <T> MultiSourceBFSResult<T> run(IndexedGraph<T> graph, int[] sources, int maxDepth, ForkJoinPool pool,
+                                           Cancellation cancellation) {
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("Depth must not be negative");
+        }
+
+        int n = graph.vertexCount();
+        for (int s : sources) {
+            if (s < 0 || s >= n) {
+                throw new IllegalArgumentException("Vertex does not exist");
+            }
+        }
+
+        int batches = (sources.length + BATCH - 1) / BATCH;
+        int workers = Math.min(batches, Math.max(1, pool.getParallelism()));
+        long[][] reached = new long[batches][];
+        int[][] nearest = new int[workers][];
+        if (workers > 1) {
+            pool.submit(() -> IntStream.range(0, workers).parallel().forEach(w -> nearest[w] = search(graph, sources,
+                    maxDepth, w, workers, reached, cancellation))).join();
+        } else if (workers == 1) {
+            nearest[0] = search(graph, sources, maxDepth, 0, 1, reached, cancellation);
+        }
+
+        int[] merged = workers > 0 ? nearest[0] : unreached(n);
+        for (int w = 1; w < workers; w++) {
+            for (int v = 0; v < n; v++) {
+                merged[v] = Math.min(merged[v], nearest[w][v]);
+            }
+        }
+
+        return new MultiSourceBFSResult<>(graph, sources.clone(), reached, merged, maxDepth);
+    }
+
+    static int[] distances(IndexedGraph<?> graph, int source, int maxDepth) {
+        int[] distance = unreached(graph.vertexCount());
+        int[] queue = new int[graph.vertexCount()];
+        int head = 0;
+        int tail = 0;
+
+        distance[source] = 0;
+        queue[tail++] = source;
+        while (head < tail) {
+            int u = queue[head++];
+            if (distance[u] == maxDepth) {
+                continue;
+            }
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                int v = graph.target(e);
+                if (distance[v] == Integer.MAX_VALUE) {
+                    distance[v] = distance[u] + 1;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return distance;
+    }
+
+    private static int[] search(IndexedGraph<?> graph, int[] sources, int maxDepth, int worker, int workers,
+                                long[][] reached, Cancellation cancellation) {
+        int n = graph.vertexCount();
+        int[] nearest = unreached(n);
+        long[] next = new long[n];
+        int[] frontier = new int[n];
+        long[] frontierBits = new long[n];
+        int[] touched = new int[n];
+
+        for (int b = worker; b < reached.length; b += workers) {
+            reached[b] = batch(graph, sources, b * BATCH, maxDepth, nearest, next, frontier, frontierBits, touched,
+                    cancellation);
+        }
+        return nearest;
+    }
+
+    private static long[] batch(IndexedGraph<?> graph, int[] sources, int from, int maxDepth, int[] nearest,
+                                long[] next, int[] frontier, long[] frontierBits, int[] touched,
+                                Cancellation cancellation) {
+        int count = Math.min(BATCH, sources.length - from);
+        long[] seen = new long[graph.vertexCount()];
+        int size = 0;
+
+        for (int i = 0; i < count; i++) {
+            int s = sources[from + i];
+            if (seen[s] == 0) {
+                frontier[size++] = s;
+            }
+            seen[s] |= 1L << i;
+            nearest[s] = 0;
+        }
+        for (int f = 0; f < size; f++) {
+            frontierBits[f] = seen[frontier[f]];
+        }
+
+        for (int level = 1; level <= maxDepth && size > 0; level++) {
+            cancellation.check();
+            int reached = 0;
+            for (int f = 0; f < size; f++) {
+                int v = frontier[f];
+                long bits = frontierBits[f];
+                for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                    int w = graph.target(e);
+                    long fresh = bits & ~seen[w];
+                    if (fresh != 0) {
+                        if (next[w] == 0) {
+                            touched[reached++] = w;
+                            nearest[w] = Math.min(nearest[w], level);
+                        }
+                        next[w] |= fresh;
+                        seen[w] |= fresh;
+                    }
+                }
+            }
+
+            int[] swap = frontier;
+            frontier = touched;
+            touched = swap;
+            size = reached;
+            for (int f = 0; f < size; f++) {
+                frontierBits[f] = next[frontier[f]];
+                next[frontier[f]] = 0;
+            }
+        }
+        return seen;
+    }
+
+    private static int[] unreached(int n) {
+        int[] distance = new int[n];
+        Arrays.fill(distance, Integer.MAX_VALUE);
+        return distance;
+    }
+}
@@ -0,0 +1,388 @@
+package graph;
+
+import java.util.*;
+
+/**
+ * Keeps adjacency in direct buffers, so its size is bounded by {@code -XX:MaxDirectMemorySize} (by default the
+ * maximum heap size) rather than by the heap. {@link #close()} frees that memory at once and leaves an empty graph;
+ * it must not run while other threads are reading the graph.
+ */
+public class OffHeapGraph<T> extends AbstractGraph<T> implements IndexedGraph<T>, AutoCloseable {
+    private static final int RECORD = 6;
+    private static final int OUT = 0;
+    private static final int IN = 3;
+    private static final int START = 0;
+    private static final int DEGREE = 1;
+    private static final int CAPACITY = 2;
+    private static final int MIN_BLOCK = 4;
+    private static final int MAX_CLASS = 31;
+
+    private final ArrayList<T> values;
+    private final HashMap<T, Integer> index;
+    private final boolean directed;
+    private final OffHeapIntArray records;
+    private final OffHeapIntArray slots;
+    private final int[] free;
+    private final IndexedGraph<T> reverse;
+    private long top;
+    private int edgeCount;
+    private ArrayList<Vertex<T>> vertices;
+
+    public OffHeapGraph(boolean directed) {
+        this(directed, 0);
+    }
+
+    public OffHeapGraph(boolean directed, int expectedVertices) {
+        this.values = new ArrayList<>(expectedVertices);
+        this.index = new HashMap<>(Math.max(16, (int) (expectedVertices / 0.75f) + 1));
+        this.directed = directed;
+        this.records = new OffHeapIntArray();
+        this.slots = new OffHeapIntArray();
+        this.free = new int[MAX_CLASS];
+        this.reverse = directed ? new Reverse() : this;
+        this.records.ensureCapacity((long) RECORD * expectedVertices);
+        Arrays.fill(this.free, -1);
+    }
+
+    @Override
+    public void addVertex(T vertex) {
+        int id = this.values.size();
+        if (this.index.putIfAbsent(vertex, id) != null) {
+            throw new IllegalArgumentException("Vertex already exists");
+        }
+
+        this.values.add(vertex);
+        this.records.ensureCapacity((long) RECORD * (id + 1));
+        for (int i = 0; i < RECORD; i++) {
+            this.records.set((long) RECORD * id + i, 0);
+        }
+        this.vertices = null;
+    }
+
+    @Override
+    public void addEdge(T source, T destination, int weight) {
+        int u = indexOf(source);
+        int v = indexOf(destination);
+
+        if (find(u, OUT, v) != -1) {
+            throw new IllegalArgumentException("Edge already exists");
+        }
+
+        append(u, OUT, v, weight);
+        if (this.directed) {
+            append(v, IN, u, weight);
+        } else if (u != v) {
+            append(v, OUT, u, weight);
+        }
+        this.vertices = null;
+    }
+
+    @Override
+    public void removeVertex(T vertex) {
+        int v = indexOf(vertex);
+
+        for (int e = firstEdge(v); e < endEdge(v); e++) {
+            int u = target(e);
+            if (u != v) {
+                remove(u, this.directed ? IN : OUT, v);
+            }
+        }
+        if (this.directed) {
+            for (int e = start(v, IN); e < start(v, IN) + degree(v, IN); e++) {
+                int u = this.slots.get(2L * e);
+                if (u != v) {
+                    remove(u, OUT, v);
+                }
+            }
+        }
+        this.edgeCount -= degree(v, OUT);
+        release(v, OUT);
+        release(v, IN);
+
+        int last = this.values.size() - 1;
+        if (v != last) {
+            this.records.copy((long) RECORD * last, (long) RECORD * v, RECORD);
+            renumber(last, OUT, v);
+            if (this.directed) {
+                renumber(last, IN, v);
+            }
+            this.values.set(v, this.values.get(last));
+            this.index.put(this.values.get(v), v);
+        }
+
+        this.values.remove(last);
+        this.index.remove(vertex);
+        this.vertices = null;
+    }
+
+    @Override
+    public void removeEdge(T vertex1, T vertex2) {
+        int u = indexOf(vertex1);
+        int v = indexOf(vertex2);
+
+        if (!remove(u, OUT, v)) {
+            throw new IllegalArgumentException("Edge does not exist");
+        }
+        if (this.directed) {
+            remove(v, IN, u);
+        } else if (u != v) {
+            remove(v, OUT, u);
+        }
+        this.vertices = null;
+    }
+
+    @Override
+    public void close() {
+        this.records.release();
+        this.slots.release();
+        this.values.clear();
+        this.index.clear();
+        Arrays.fill(this.free, -1);
+        this.top = 0;
+        this.edgeCount = 0;
+        this.vertices = null;
+    }
+
+    public boolean containsVertex(T value) {
+        return this.index.containsKey(value);
+    }
+
+    @Override
+    public OffHeapGraph<T> freeze() {
+        return this;
+    }
+
+    @Override
+    public IndexedGraph<T> reverse() {
+        return this.reverse;
+    }
+
+    @Override
+    public synchronized ArrayList<Vertex<T>> getVertices() {
+        if (this.vertices == null) {
+            this.vertices = new ArrayList<>(this.values.size());
+            for (int i = 0; i < this.values.size(); i++) {
+                this.vertices.add(new Vertex<>(this.values.get(i), i));
+            }
+        }
+        return this.vertices;
+    }
+
+    @Override
+    public int vertexCount() {
+        return this.values.size();
+    }
+
+    @Override
+    public int edgeCount() {
+        return this.edgeCount;
+    }
+
+    @Override
+    public boolean isDirected() {
+        return this.directed;
+    }
+
+    @Override
+    public T value(int id) {
+        return this.values.get(id);
+    }
+
+    @Override
+    public int indexOf(T value) {
+        Integer id = this.index.get(value);
+        if (id == null) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+        return id;
+    }
+
+    @Override
+    public int firstEdge(int vertex) {
+        return start(vertex, OUT);
+    }
+
+    @Override
+    public int endEdge(int vertex) {
+        return start(vertex, OUT) + degree(vertex, OUT);
+    }
+
+    @Override
+    public int target(int edge) {
+        return this.slots.get(2L * edge);
+    }
+
+    @Override
+    public int weight(int edge) {
+        return this.slots.get(2L * edge + 1);
+    }
+
+    private int start(int vertex, int side) {
+        return this.records.get((long) RECORD * vertex + side + START);
+    }
+
+    private int degree(int vertex, int side) {
+        return this.records.get((long) RECORD * vertex + side + DEGREE);
+    }
+
+    private int find(int vertex, int side, int target) {
+        int start = start(vertex, side);
+        int end = start + degree(vertex, side);
+
+        for (int e = start; e < end; e++) {
+            if (this.slots.get(2L * e) == target) {
+                return e;
+            }
+        }
+        return -1;
+    }
+
+    private void append(int vertex, int side, int target, int weight) {
+        long record = (long) RECORD * vertex + side;
+        int start = this.records.get(record + START);
+        int degree = this.records.get(record + DEGREE);
+        int capacity = this.records.get(record + CAPACITY);
+
+        if (degree == capacity) {
+            int grown = Math.max(MIN_BLOCK, capacity * 2);
+            int block = allocate(grown);
+            this.slots.copy(2L * start, 2L * block, 2L * degree);
+            if (capacity > 0) {
+                free(start, capacity);
+            }
+            start = block;
+            this.records.set(record + START, block);
+            this.records.set(record + CAPACITY, grown);
+        }
+
+        this.slots.set(2L * (start + degree), target);
+        this.slots.set(2L * (start + degree) + 1, weight);
+        this.records.set(record + DEGREE, degree + 1);
+        if (side == OUT) {
+            this.edgeCount++;
+        }
+    }
+
+    private boolean remove(int vertex, int side, int target) {
+        int e = find(vertex, side, target);
+        if (e == -1) {
+            return false;
+        }
+
+        long record = (long) RECORD * vertex + side;
+        int last = this.records.get(record + START) + this.records.get(record + DEGREE) - 1;
+        this.slots.set(2L * e, this.slots.get(2L * last));
+        this.slots.set(2L * e + 1, this.slots.get(2L * last + 1));
+        this.records.set(record + DEGREE, last - this.records.get(record + START));
+        if (side == OUT) {
+            this.edgeCount--;
+        }
+        return true;
+    }
+
+    private void renumber(int from, int side, int to) {
+        int start = start(to, side);
+        int end = start + degree(to, side);
+
+        for (int e = start; e < end; e++) {
+            int u = this.slots.get(2L * e);
+            if (u == from) {
+                this.slots.set(2L * e, to);
+                continue;
+            }
+
+            int mirror = side == IN || !this.directed ? OUT : IN;
+            int slot = find(u, mirror, from);
+            this.slots.set(2L * slot, to);
+        }
+    }
+
+    private void release(int vertex, int side) {
+        long record = (long) RECORD * vertex + side;
+        int capacity = this.records.get(record + CAPACITY);
+
+        if (capacity > 0) {
+            free(this.records.get(record + START), capacity);
+        }
+        this.records.set(record + START, 0);
+        this.records.set(record + DEGREE, 0);
+        this.records.set(record + CAPACITY, 0);
+    }
+
+    private int allocate(int capacity) {
+        int sizeClass = Integer.numberOfTrailingZeros(capacity);
+        int block = this.free[sizeClass];
+
+        if (block != -1) {
+            this.free[sizeClass] = this.slots.get(2L * block);
+            return block;
+        }
+        if (this.top + capacity > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Off-heap edge store is full");
+        }
+
+        block = (int) this.top;
+        this.top += capacity;
+        this.slots.ensureCapacity(2 * this.top);
+        return block;
+    }
+
+    private void free(int block, int capacity) {
+        int sizeClass = Integer.numberOfTrailingZeros(capacity);
+        this.slots.set(2L * block, this.free[sizeClass]);
+        this.free[sizeClass] = block;
+    }
+
+    private class Reverse implements IndexedGraph<T> {
+
+        @Override
+        public int vertexCount() {
+            return OffHeapGraph.this.vertexCount();
+        }
+
+        @Override
+        public int edgeCount() {
+            return OffHeapGraph.this.edgeCount();
+        }
+
+        @Override
+        public boolean isDirected() {
+            return true;
+        }
+
+        @Override
+        public T value(int id) {
+            return OffHeapGraph.this.value(id);
+        }
+
+        @Override
+        public int indexOf(T value) {
+            return OffHeapGraph.this.indexOf(value);
+        }
+
+        @Override
+        public int firstEdge(int vertex) {
+            return start(vertex, IN);
+        }
+
+        @Override
+        public int endEdge(int vertex) {
+            return start(vertex, IN) + degree(vertex, IN);
+        }
+
+        @Override
+        public int target(int edge) {
+            return OffHeapGraph.this.target(edge);
+        }
+
+        @Override
+        public int weight(int edge) {
+            return OffHeapGraph.this.weight(edge);
+        }
+
+        @Override
+        public IndexedGraph<T> reverse() {
+            return OffHeapGraph.this;
+        }
+    }
+}
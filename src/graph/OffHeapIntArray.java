@@ -0,0 +1,131 @@
+package graph;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.*;
+
+final class OffHeapIntArray {
+    private static final int CHUNK_BITS = 24;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final long CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int INITIAL_SIZE = 1 << 10;
+    private static final Object UNSAFE = unsafe();
+    private static final Method INVOKE_CLEANER = invokeCleaner();
+
+    private ByteBuffer[] chunks;
+    private long capacity;
+
+    OffHeapIntArray() {
+        this.chunks = new ByteBuffer[0];
+    }
+
+    long capacity() {
+        return this.capacity;
+    }
+
+    int get(long index) {
+        return this.chunks[(int) (index >>> CHUNK_BITS)].getInt((int) (index & CHUNK_MASK) << 2);
+    }
+
+    void set(long index, int value) {
+        this.chunks[(int) (index >>> CHUNK_BITS)].putInt((int) (index & CHUNK_MASK) << 2, value);
+    }
+
+    void copy(long from, long to, long length) {
+        for (long i = 0; i < length; i++) {
+            set(to + i, get(from + i));
+        }
+    }
+
+    void ensureCapacity(long required) {
+        if (required <= this.capacity) {
+            return;
+        }
+
+        int last = this.chunks.length - 1;
+        if (last >= 0 && this.chunks[last].capacity() < CHUNK_SIZE << 2) {
+            int size = chunkSize(required - ((long) last << CHUNK_BITS), this.chunks[last].capacity() >> 1);
+            this.chunks[last] = grow(this.chunks[last], size);
+            this.capacity = ((long) last << CHUNK_BITS) + size;
+        }
+
+        while (this.capacity < required) {
+            int size = this.chunks.length == 0 ? chunkSize(required, INITIAL_SIZE) : CHUNK_SIZE;
+            this.chunks = Arrays.copyOf(this.chunks, this.chunks.length + 1);
+            this.chunks[this.chunks.length - 1] = allocate(size);
+            this.capacity += size;
+        }
+    }
+
+    void release() {
+        ByteBuffer[] released = this.chunks;
+        this.chunks = new ByteBuffer[0];
+        this.capacity = 0;
+        for (ByteBuffer chunk : released) {
+            free(chunk);
+        }
+    }
+
+    private static int chunkSize(long required, int minimum) {
+        int size = minimum;
+        while (size < CHUNK_SIZE && size < required) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    private static ByteBuffer grow(ByteBuffer chunk, int size) {
+        ByteBuffer grown = allocate(size);
+        ByteBuffer old = chunk.duplicate();
+        old.clear();
+        grown.put(old);
+        grown.clear();
+        free(chunk);
+        return grown;
+    }
+
+    private static ByteBuffer allocate(int size) {
+        try {
+            return ByteBuffer.allocateDirect(size << 2).order(ByteOrder.nativeOrder());
+        } catch (OutOfMemoryError e) {
+            throw new IllegalStateException("Direct memory exhausted; raise -XX:MaxDirectMemorySize", e);
+        }
+    }
+
+    private static void free(ByteBuffer chunk) {
+        try {
+            if (INVOKE_CLEANER != null) {
+                INVOKE_CLEANER.invoke(UNSAFE, chunk);
+            } else {
+                Method cleaner = chunk.getClass().getMethod("cleaner");
+                cleaner.setAccessible(true);
+                Object target = cleaner.invoke(chunk);
+                if (target != null) {
+                    target.getClass().getMethod("clean").invoke(target);
+                }
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // The buffer is left for the garbage collector to release.
+        }
+    }
+
+    private static Object unsafe() {
+        try {
+            Field field = Class.forName("sun.misc.Unsafe").getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return field.get(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Method invokeCleaner() {
+        try {
+            return UNSAFE == null ? null : UNSAFE.getClass().getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
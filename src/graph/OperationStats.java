@@ -0,0 +1,146 @@
+package graph;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class OperationStats implements OperationStatsMXBean {
+    private static final int BUCKETS = 64;
+
+    private final GraphOperation operation;
+    private final LongAdder count;
+    private final LongAdder totalNanos;
+    private final LongAdder vertices;
+    private final LongAdder edges;
+    private final LongAdder heapOperations;
+    private final LongAdder allocatedBytes;
+    private final LongAccumulator maxNanos;
+    private final LongAccumulator peakQueue;
+    private final AtomicLongArray histogram;
+
+    OperationStats(GraphOperation operation) {
+        this.operation = operation;
+        this.count = new LongAdder();
+        this.totalNanos = new LongAdder();
+        this.vertices = new LongAdder();
+        this.edges = new LongAdder();
+        this.heapOperations = new LongAdder();
+        this.allocatedBytes = new LongAdder();
+        this.maxNanos = new LongAccumulator(Math::max, 0);
+        this.peakQueue = new LongAccumulator(Math::max, 0);
+        this.histogram = new AtomicLongArray(BUCKETS);
+    }
+
+    void record(long nanos, long vertices, long edges, long heapOperations, long peakQueue, long allocatedBytes) {
+        long clamped = Math.max(0, nanos);
+        this.count.increment();
+        this.totalNanos.add(clamped);
+        this.vertices.add(vertices);
+        this.edges.add(edges);
+        this.heapOperations.add(heapOperations);
+        this.allocatedBytes.add(allocatedBytes);
+        this.maxNanos.accumulate(clamped);
+        this.peakQueue.accumulate(peakQueue);
+        this.histogram.incrementAndGet(Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(clamped)));
+    }
+
+    public GraphOperation getOperation() {
+        return this.operation;
+    }
+
+    @Override
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    @Override
+    public long getTotalNanos() {
+        return this.totalNanos.sum();
+    }
+
+    @Override
+    public long getMeanNanos() {
+        long count = getCount();
+        return count == 0 ? 0 : getTotalNanos() / count;
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return this.maxNanos.get();
+    }
+
+    @Override
+    public long getP50Nanos() {
+        return getPercentileNanos(0.5);
+    }
+
+    @Override
+    public long getP99Nanos() {
+        return getPercentileNanos(0.99);
+    }
+
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 1");
+        }
+
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            counts[b] = this.histogram.get(b);
+            total += counts[b];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        for (int b = 0; b < BUCKETS; b++) {
+            rank -= counts[b];
+            if (rank <= 0) {
+                return b == 0 ? 0 : Math.min(getMaxNanos(), (1L << b) - 1);
+            }
+        }
+        return getMaxNanos();
+    }
+
+    @Override
+    public long getVertices() {
+        return this.vertices.sum();
+    }
+
+    @Override
+    public long getEdges() {
+        return this.edges.sum();
+    }
+
+    @Override
+    public long getHeapOperations() {
+        return this.heapOperations.sum();
+    }
+
+    @Override
+    public long getPeakQueue() {
+        return this.peakQueue.get();
+    }
+
+    @Override
+    public long getAllocatedBytes() {
+        return this.allocatedBytes.sum();
+    }
+
+    @Override
+    public void reset() {
+        this.count.reset();
+        this.totalNanos.reset();
+        this.vertices.reset();
+        this.edges.reset();
+        this.heapOperations.reset();
+        this.allocatedBytes.reset();
+        this.maxNanos.reset();
+        this.peakQueue.reset();
+        for (int b = 0; b < BUCKETS; b++) {
+            this.histogram.set(b, 0);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package graph;
+
+public interface OperationStatsMXBean {
+
+    long getCount();
+
+    long getTotalNanos();
+
+    long getMeanNanos();
+
+    long getMaxNanos();
+
+    long getP50Nanos();
+
+    long getP99Nanos();
+
+    long getVertices();
+
+    long getEdges();
+
+    long getHeapOperations();
+
+    long getPeakQueue();
+
+    long getAllocatedBytes();
+
+    void reset();
+}
@@ -0,0 +1,163 @@
+package graph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+public final class ParallelBreadthFirstSearch<T> {
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+
+    private final IndexedGraph<T> graph;
+    private final IndexedGraph<T> reverse;
+    private final int n;
+    private final int words;
+    private final int[] distance;
+    private final int[] parent;
+    private final AtomicLongArray visited;
+    private long[] frontier;
+    private AtomicLongArray next;
+
+    private ParallelBreadthFirstSearch(IndexedGraph<T> graph) {
+        this.graph = graph;
+        this.reverse = graph.reverse();
+        this.n = graph.vertexCount();
+        this.words = (this.n + 63) >>> 6;
+        this.distance = new int[this.n];
+        this.parent = new int[this.n];
+        this.visited = new AtomicLongArray(this.words);
+        this.frontier = new long[this.words];
+        Arrays.fill(this.distance, Integer.MAX_VALUE);
+        Arrays.fill(this.parent, -1);
+    }
+
+    public static <T> BFSResult<T> run(IndexedGraph<T> graph, int source) {
+        return run(graph, source, ForkJoinPool.commonPool());
+    }
+
+    public static <T> BFSResult<T> run(IndexedGraph<T> graph, int source, ForkJoinPool pool) {
+        ParallelBreadthFirstSearch<T> search = new ParallelBreadthFirstSearch<>(graph);
+        search.search(source, pool);
+        return new BFSResult<>(graph, source, search.distance, search.parent);
+    }
+
+    private void search(int source, ForkJoinPool pool) {
+        this.distance[source] = 0;
+        this.visited.set(source >>> 6, 1L << source);
+        this.frontier[source >>> 6] = 1L << source;
+
+        long frontierSize = 1;
+        long frontierEdges = degree(this.graph, source);
+        long unexploredEdges = this.graph.edgeCount() - frontierEdges;
+        boolean bottomUp = false;
+
+        for (int level = 0; frontierSize > 0; level++) {
+            if (!bottomUp && frontierEdges > unexploredEdges / ALPHA) {
+                bottomUp = true;
+            } else if (bottomUp && frontierSize < this.n / BETA) {
+                bottomUp = false;
+            }
+
+            int depth = level + 1;
+            this.next = new AtomicLongArray(this.words);
+            long discoveredEdges;
+            if (bottomUp) {
+                discoveredEdges = pool.submit(() -> IntStream.range(0, this.words).parallel()
+                        .mapToLong(w -> bottomUpStep(w, depth)).sum()).join();
+            } else {
+                discoveredEdges = pool.submit(() -> IntStream.range(0, this.words).parallel()
+                        .mapToLong(w -> topDownStep(w, depth)).sum()).join();
+            }
+
+            frontierSize = 0;
+            for (int w = 0; w < this.words; w++) {
+                this.frontier[w] = this.next.get(w);
+                frontierSize += Long.bitCount(this.frontier[w]);
+            }
+            frontierEdges = discoveredEdges;
+            unexploredEdges -= discoveredEdges;
+        }
+    }
+
+    private long topDownStep(int word, int depth) {
+        long discoveredEdges = 0;
+
+        for (long bits = this.frontier[word]; bits != 0; bits &= bits - 1) {
+            int u = (word << 6) + Long.numberOfTrailingZeros(bits);
+            for (int e = this.graph.firstEdge(u); e < this.graph.endEdge(u); e++) {
+                int v = this.graph.target(e);
+                if (claim(v)) {
+                    this.parent[v] = u;
+                    this.distance[v] = depth;
+                    setBit(this.next, v);
+                    discoveredEdges += degree(this.graph, v);
+                }
+            }
+        }
+
+        return discoveredEdges;
+    }
+
+    private long bottomUpStep(int word, int depth) {
+        long discoveredEdges = 0;
+        long seen = this.visited.get(word);
+        long discovered = 0;
+        int end = Math.min(this.n, (word + 1) << 6);
+
+        for (int v = word << 6; v < end; v++) {
+            long mask = 1L << v;
+            if ((seen & mask) != 0) {
+                continue;
+            }
+            for (int e = this.reverse.firstEdge(v); e < this.reverse.endEdge(v); e++) {
+                int u = this.reverse.target(e);
+                if ((this.frontier[u >>> 6] & (1L << u)) != 0) {
+                    this.parent[v] = u;
+                    this.distance[v] = depth;
+                    discovered |= mask;
+                    discoveredEdges += degree(this.graph, v);
+                    break;
+                }
+            }
+        }
+
+        if (discovered != 0) {
+            this.next.set(word, discovered);
+            this.visited.set(word, seen | discovered);
+        }
+
+        return discoveredEdges;
+    }
+
+    private boolean claim(int v) {
+        int word = v >>> 6;
+        long mask = 1L << v;
+
+        while (true) {
+            long old = this.visited.get(word);
+            if ((old & mask) != 0) {
+                return false;
+            }
+            if (this.visited.compareAndSet(word, old, old | mask)) {
+                return true;
+            }
+        }
+    }
+
+    private static void setBit(AtomicLongArray bits, int v) {
+        int word = v >>> 6;
+        long mask = 1L << v;
+
+        while (true) {
+            long old = bits.get(word);
+            if (bits.compareAndSet(word, old, old | mask)) {
+                return;
+            }
+        }
+    }
+
+    private static int degree(IndexedGraph<?> graph, int v) {
+        return graph.endEdge(v) - graph.firstEdge(v);
+    }
+}
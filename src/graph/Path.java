@@ -0,0 +1,34 @@
+package graph;
+
+import java.util.*;
+
+public class Path<T> {
+    private final List<T> vertices;
+    private final int cost;
+
+    Path(List<T> vertices, int cost) {
+        this.vertices = Collections.unmodifiableList(vertices);
+        this.cost = cost;
+    }
+
+    static <T> Path<T> none() {
+        return new Path<>(Collections.<T>emptyList(), Integer.MAX_VALUE);
+    }
+
+    public boolean isFound() {
+        return !this.vertices.isEmpty();
+    }
+
+    public List<T> getVertices() {
+        return this.vertices;
+    }
+
+    public int getCost() {
+        return this.cost;
+    }
+
+    @Override
+    public String toString() {
+        return this.vertices + " (" + this.cost + ")";
+    }
+}
@@ -0,0 +1,150 @@
+package graph;
+
+import java.util.*;
+
+public final class PointToPointSearch {
+
+    private PointToPointSearch() {
+    }
+
+    public static <T> Path<T> bidirectional(IndexedGraph<T> graph, int source, int target) {
+        return bidirectional(graph, source, target, Cancellation.NONE);
+    }
+
+    static <T> Path<T> bidirectional(IndexedGraph<T> graph, int source, int target, Cancellation cancellation) {
+        if (source == target) {
+            return new Path<>(Collections.singletonList(graph.value(source)), 0);
+        }
+
+        SearchScratch scratch = SearchScratch.acquire(graph.vertexCount());
+        try {
+            return bidirectional(graph, source, target, scratch.forward, scratch.backward, cancellation);
+        } finally {
+            scratch.release();
+        }
+    }
+
+    private static <T> Path<T> bidirectional(IndexedGraph<T> graph, int source, int target,
+                                             SearchScratch.Frontier forward, SearchScratch.Frontier backward,
+                                             Cancellation cancellation) {
+        GraphMetrics metrics = GraphMetrics.installed();
+        long start = Instrumentation.start(metrics);
+        IndexedGraph<T> reverse = graph.reverse();
+        forward.reach(source, 0, -1);
+        backward.reach(target, 0, -1);
+        forward.queue.insert(source, 0);
+        backward.queue.insert(target, 0);
+
+        long best = Long.MAX_VALUE;
+        int meeting = -1;
+        long visited = 0;
+        long relaxed = 0;
+        int peakQueue = 2;
+
+        while (!forward.queue.isEmpty() && !backward.queue.isEmpty()) {
+            cancellation.check();
+            if (forward.queue.peekKey() + backward.queue.peekKey() >= best) {
+                break;
+            }
+
+            boolean expandForward = forward.queue.size() <= backward.queue.size();
+            IndexedGraph<T> side = expandForward ? graph : reverse;
+            SearchScratch.Frontier frontier = expandForward ? forward : backward;
+            SearchScratch.Frontier other = expandForward ? backward : forward;
+
+            int u = frontier.queue.poll();
+            visited++;
+            for (int e = side.firstEdge(u); e < side.endEdge(u); e++) {
+                int v = side.target(e);
+                long alt = (long) frontier.distance(u) + side.weight(e);
+                if (alt < frontier.distance(v)) {
+                    frontier.reach(v, (int) alt, u);
+                    frontier.queue.insertOrDecrease(v, alt);
+                    relaxed++;
+                }
+                int distance = frontier.distance(v);
+                int remaining = other.distance(v);
+                if (remaining != Integer.MAX_VALUE && distance != Integer.MAX_VALUE
+                        && (long) distance + remaining < best) {
+                    best = (long) distance + remaining;
+                    meeting = v;
+                }
+            }
+            peakQueue = Math.max(peakQueue, forward.queue.size() + backward.queue.size());
+        }
+
+        if (metrics.isEnabled()) {
+            metrics.record(GraphOperation.BIDIRECTIONAL_SEARCH, System.nanoTime() - start, visited, relaxed,
+                    2 + visited + relaxed, peakQueue, 0);
+        }
+        if (meeting == -1) {
+            return Path.none();
+        }
+
+        ArrayList<T> vertices = new ArrayList<>();
+        for (int u = meeting; u != -1; u = forward.parent[u]) {
+            vertices.add(graph.value(u));
+        }
+        Collections.reverse(vertices);
+        for (int u = backward.parent[meeting]; u != -1; u = backward.parent[u]) {
+            vertices.add(graph.value(u));
+        }
+
+        return new Path<>(vertices, (int) best);
+    }
+
+    public static <T> Path<T> aStar(IndexedGraph<T> graph, int source, int target, Heuristic<T> heuristic) {
+        SearchScratch scratch = SearchScratch.acquire(graph.vertexCount());
+        try {
+            return aStar(graph, source, target, heuristic, scratch.forward);
+        } finally {
+            scratch.release();
+        }
+    }
+
+    private static <T> Path<T> aStar(IndexedGraph<T> graph, int source, int target, Heuristic<T> heuristic,
+                                     SearchScratch.Frontier frontier) {
+        GraphMetrics metrics = GraphMetrics.installed();
+        long start = Instrumentation.start(metrics);
+        T goal = graph.value(target);
+        frontier.reach(source, 0, -1);
+        frontier.queue.insert(source, heuristic.estimate(graph.value(source), goal));
+        long visited = 0;
+        long relaxed = 0;
+        int peakQueue = 1;
+
+        while (!frontier.queue.isEmpty()) {
+            int u = frontier.queue.poll();
+            visited++;
+            if (u == target) {
+                if (metrics.isEnabled()) {
+                    metrics.record(GraphOperation.A_STAR, System.nanoTime() - start, visited, relaxed,
+                            1 + visited + relaxed, peakQueue, 0);
+                }
+                ArrayList<T> vertices = new ArrayList<>();
+                for (int v = target; v != -1; v = frontier.parent[v]) {
+                    vertices.add(graph.value(v));
+                }
+                Collections.reverse(vertices);
+                return new Path<>(vertices, frontier.distance(target));
+            }
+
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                int v = graph.target(e);
+                long alt = (long) frontier.distance(u) + graph.weight(e);
+                if (alt < frontier.distance(v)) {
+                    frontier.reach(v, (int) alt, u);
+                    frontier.queue.insertOrDecrease(v, alt + heuristic.estimate(graph.value(v), goal));
+                    relaxed++;
+                }
+            }
+            peakQueue = Math.max(peakQueue, frontier.queue.size());
+        }
+
+        if (metrics.isEnabled()) {
+            metrics.record(GraphOperation.A_STAR, System.nanoTime() - start, visited, relaxed,
+                    1 + visited + relaxed, peakQueue, 0);
+        }
+        return Path.none();
+    }
+}
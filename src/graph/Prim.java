@@ -0,0 +1,61 @@
+package graph;
+
+import java.util.*;
+
+public final class Prim {
+
+    private Prim() {
+    }
+
+    public static <T> SpanningTree<T> run(IndexedGraph<T> graph, int source) {
+        GraphMetrics metrics = GraphMetrics.installed();
+        long start = Instrumentation.start(metrics);
+        int n = graph.vertexCount();
+        int[] key = new int[n];
+        int[] parent = new int[n];
+
+        Arrays.fill(key, Integer.MAX_VALUE);
+        Arrays.fill(parent, -1);
+        key[source] = 0;
+
+        long visited = 0;
+        long relaxed = 0;
+        long heapOperations = 1;
+        int peakQueue = 1;
+
+        SearchScratch scratch = SearchScratch.acquire(n);
+        try {
+            VisitMarks done = scratch.forward.marks;
+            IndexedDaryHeap queue = scratch.forward.queue;
+            queue.insert(source, 0);
+
+            while (!queue.isEmpty()) {
+                int u = queue.poll();
+                done.mark(u);
+                visited++;
+                heapOperations++;
+
+                for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                    int v = graph.target(e);
+                    if (!done.isMarked(v) && graph.weight(e) < key[v]) {
+                        key[v] = graph.weight(e);
+                        parent[v] = u;
+                        queue.insertOrDecrease(v, key[v]);
+                        relaxed++;
+                    }
+                }
+                peakQueue = Math.max(peakQueue, queue.size());
+            }
+        } finally {
+            scratch.release();
+        }
+
+        heapOperations += relaxed;
+        if (metrics.isEnabled()) {
+            metrics.record(GraphOperation.PRIM, System.nanoTime() - start, visited, relaxed, heapOperations,
+                    peakQueue, 8L * n);
+        }
+
+        return new SpanningTree<>(graph, source, key, parent);
+    }
+}
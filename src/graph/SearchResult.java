@@ -0,0 +1,40 @@
+package graph;
+
+import java.util.*;
+
+public abstract class SearchResult<T> {
+    protected final IndexedGraph<T> graph;
+    protected final int source;
+    protected final int[] parent;
+
+    protected SearchResult(IndexedGraph<T> graph, int source, int[] parent) {
+        this.graph = graph;
+        this.source = source;
+        this.parent = parent;
+    }
+
+    public T getSource() {
+        return this.source == -1 ? null : this.graph.value(this.source);
+    }
+
+    public int size() {
+        return this.parent.length;
+    }
+
+    public T getParent(T vertex) {
+        int p = this.parent[this.graph.indexOf(vertex)];
+        return p == -1 ? null : this.graph.value(p);
+    }
+
+    public int getParentById(int id) {
+        return this.parent[id];
+    }
+
+    public int[] getParents() {
+        return this.parent.clone();
+    }
+
+    public IndexedGraph<T> getGraph() {
+        return this.graph;
+    }
+}
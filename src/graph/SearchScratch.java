@@ -0,0 +1,73 @@
+package graph;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class SearchScratch {
+    private static final int MAX_POOLED = Runtime.getRuntime().availableProcessors() * 2;
+    private static final ConcurrentLinkedQueue<SearchScratch> POOL = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger POOLED = new AtomicInteger();
+
+    final Frontier forward;
+    final Frontier backward;
+    final int[] stack;
+    final int[] cursor;
+
+    private SearchScratch(int capacity) {
+        this.forward = new Frontier(capacity);
+        this.backward = new Frontier(capacity);
+        this.stack = new int[capacity];
+        this.cursor = new int[capacity];
+    }
+
+    static SearchScratch acquire(int capacity) {
+        SearchScratch scratch = POOL.poll();
+        if (scratch != null) {
+            POOLED.decrementAndGet();
+        }
+        if (scratch == null || scratch.forward.marks.capacity() < capacity) {
+            scratch = new SearchScratch(capacity);
+        }
+
+        scratch.forward.reset();
+        scratch.backward.reset();
+        return scratch;
+    }
+
+    void release() {
+        if (POOLED.incrementAndGet() <= MAX_POOLED) {
+            POOL.offer(this);
+        } else {
+            POOLED.decrementAndGet();
+        }
+    }
+
+    static final class Frontier {
+        final VisitMarks marks;
+        final int[] distance;
+        final int[] parent;
+        final IndexedDaryHeap queue;
+
+        private Frontier(int capacity) {
+            this.marks = new VisitMarks(capacity);
+            this.distance = new int[capacity];
+            this.parent = new int[capacity];
+            this.queue = new IndexedDaryHeap(capacity);
+        }
+
+        int distance(int vertex) {
+            return this.marks.isMarked(vertex) ? this.distance[vertex] : Integer.MAX_VALUE;
+        }
+
+        void reach(int vertex, int distance, int parent) {
+            this.marks.mark(vertex);
+            this.distance[vertex] = distance;
+            this.parent[vertex] = parent;
+        }
+
+        private void reset() {
+            this.marks.reset();
+            this.queue.clear();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package graph;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ShortestPathCache<T> {
+    private final GraphAdjacencyList<T> graph;
+    private final int maxEntries;
+    private final long maxWeight;
+    private final LinkedHashMap<T, ShortestPathTree<T>> entries;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    private final LongAdder invalidations;
+    private long version;
+    private long weight;
+
+    public ShortestPathCache(GraphAdjacencyList<T> graph, int maxEntries) {
+        this(graph, maxEntries, Long.MAX_VALUE);
+    }
+
+    public ShortestPathCache(GraphAdjacencyList<T> graph, int maxEntries, long maxWeight) {
+        if (maxEntries < 1 || maxWeight < 1) {
+            throw new IllegalArgumentException("Cache capacity must be at least 1");
+        }
+
+        this.graph = graph;
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.invalidations = new LongAdder();
+        this.version = graph.getVersion();
+    }
+
+    public ShortestPathTree<T> shortestPaths(T source) {
+        long version = this.graph.getVersion();
+        ShortestPathTree<T> tree = lookup(source, version);
+        if (tree != null) {
+            this.hits.increment();
+            return tree;
+        }
+
+        this.misses.increment();
+        tree = this.graph.shortestPaths(source);
+        store(source, tree, version);
+        return tree;
+    }
+
+    public int getDistance(T source, T target) {
+        return shortestPaths(source).getDistance(target);
+    }
+
+    public List<T> shortestPath(T source, T target) {
+        return shortestPaths(source).pathTo(target);
+    }
+
+    public synchronized void invalidate() {
+        if (!this.entries.isEmpty()) {
+            this.invalidations.increment();
+        }
+        this.entries.clear();
+        this.weight = 0;
+    }
+
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    public synchronized long getWeight() {
+        return this.weight;
+    }
+
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    public long getInvalidationCount() {
+        return this.invalidations.sum();
+    }
+
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    private synchronized ShortestPathTree<T> lookup(T source, long version) {
+        if (version != this.version) {
+            invalidate();
+            this.version = version;
+            return null;
+        }
+        return this.entries.get(source);
+    }
+
+    private synchronized void store(T source, ShortestPathTree<T> tree, long version) {
+        if (version != this.version) {
+            return;
+        }
+
+        ShortestPathTree<T> old = this.entries.put(source, tree);
+        if (old != null) {
+            this.weight -= weigh(old);
+        }
+        this.weight += weigh(tree);
+
+        Iterator<ShortestPathTree<T>> eldest = this.entries.values().iterator();
+        while (this.entries.size() > this.maxEntries || this.weight > this.maxWeight && this.entries.size() > 1) {
+            this.weight -= weigh(eldest.next());
+            eldest.remove();
+            this.evictions.increment();
+        }
+    }
+
+    private static long weigh(ShortestPathTree<?> tree) {
+        return Math.max(1, tree.getGraph().vertexCount());
+    }
+}
@@ -0,0 +1,43 @@
+package graph;
+
+import java.util.*;
+
+public class ShortestPathTree<T> extends SearchResult<T> {
+    private final int[] distance;
+
+    ShortestPathTree(IndexedGraph<T> graph, int source, int[] distance, int[] parent) {
+        super(graph, source, parent);
+        this.distance = distance;
+    }
+
+    public boolean isReachable(T vertex) {
+        return this.distance[this.graph.indexOf(vertex)] != Integer.MAX_VALUE;
+    }
+
+    public int getDistance(T vertex) {
+        return this.distance[this.graph.indexOf(vertex)];
+    }
+
+    public int getDistanceById(int id) {
+        return this.distance[id];
+    }
+
+    public int[] getDistances() {
+        return this.distance.clone();
+    }
+
+    public List<T> pathTo(T vertex) {
+        int v = this.graph.indexOf(vertex);
+        if (this.distance[v] == Integer.MAX_VALUE) {
+            return Collections.emptyList();
+        }
+
+        ArrayList<T> path = new ArrayList<>();
+        for (int u = v; u != -1; u = this.parent[u]) {
+            path.add(this.graph.value(u));
+        }
+        Collections.reverse(path);
+
+        return path;
+    }
+}
@@ -0,0 +1,37 @@
+package graph;
+
+public class SpanningTree<T> extends SearchResult<T> {
+    private final int[] weight;
+
+    SpanningTree(IndexedGraph<T> graph, int source, int[] weight, int[] parent) {
+        super(graph, source, parent);
+        this.weight = weight;
+    }
+
+    public boolean isSpanned(T vertex) {
+        int v = this.graph.indexOf(vertex);
+        return v == this.source || this.parent[v] != -1;
+    }
+
+    public int getWeight(T vertex) {
+        return this.weight[this.graph.indexOf(vertex)];
+    }
+
+    public int getWeightById(int id) {
+        return this.weight[id];
+    }
+
+    public int[] getWeights() {
+        return this.weight.clone();
+    }
+
+    public long getTotalWeight() {
+        long total = 0;
+        for (int v = 0; v < this.parent.length; v++) {
+            if (this.parent[v] != -1) {
+                total += this.weight[v];
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,72 @@
+package graph;
+
+import java.util.*;
+
+public final class StronglyConnectedComponents {
+
+    private StronglyConnectedComponents() {
+    }
+
+    public static <T> Components<T> run(IndexedGraph<T> graph) {
+        int n = graph.vertexCount();
+        int[] index = new int[n];
+        int[] low = new int[n];
+        int[] component = new int[n];
+        int[] cursor = new int[n];
+        int[] stack = new int[n];
+        int[] calls = new int[n];
+        boolean[] onStack = new boolean[n];
+        int counter = 0;
+        int count = 0;
+        int sp = 0;
+
+        Arrays.fill(index, -1);
+
+        for (int s = 0; s < n; s++) {
+            if (index[s] != -1) {
+                continue;
+            }
+
+            int top = 0;
+            index[s] = low[s] = counter++;
+            stack[sp++] = s;
+            onStack[s] = true;
+            cursor[s] = graph.firstEdge(s);
+            calls[top++] = s;
+
+            while (top > 0) {
+                int u = calls[top - 1];
+
+                if (cursor[u] < graph.endEdge(u)) {
+                    int v = graph.target(cursor[u]++);
+                    if (index[v] == -1) {
+                        index[v] = low[v] = counter++;
+                        stack[sp++] = v;
+                        onStack[v] = true;
+                        cursor[v] = graph.firstEdge(v);
+                        calls[top++] = v;
+                    } else if (onStack[v] && index[v] < low[u]) {
+                        low[u] = index[v];
+                    }
+                    continue;
+                }
+
+                top--;
+                if (low[u] == index[u]) {
+                    int w;
+                    do {
+                        w = stack[--sp];
+                        onStack[w] = false;
+                        component[w] = count;
+                    } while (w != u);
+                    count++;
+                }
+                if (top > 0 && low[u] < low[calls[top - 1]]) {
+                    low[calls[top - 1]] = low[u];
+                }
+            }
+        }
+
+        return new Components<>(graph, component, count);
+    }
+}
@@ -0,0 +1,64 @@
+package graph;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public interface ValueCodec<T> {
+
+    ValueCodec<Integer> INTEGER = new ValueCodec<Integer>() {
+        @Override
+        public int tag() {
+            return 1;
+        }
+
+        @Override
+        public byte[] encode(Integer value) {
+            return ByteBuffer.allocate(4).putInt(value).array();
+        }
+
+        @Override
+        public Integer decode(byte[] bytes) {
+            return ByteBuffer.wrap(bytes).getInt();
+        }
+    };
+
+    ValueCodec<Long> LONG = new ValueCodec<Long>() {
+        @Override
+        public int tag() {
+            return 2;
+        }
+
+        @Override
+        public byte[] encode(Long value) {
+            return ByteBuffer.allocate(8).putLong(value).array();
+        }
+
+        @Override
+        public Long decode(byte[] bytes) {
+            return ByteBuffer.wrap(bytes).getLong();
+        }
+    };
+
+    ValueCodec<String> STRING = new ValueCodec<String>() {
+        @Override
+        public int tag() {
+            return 3;
+        }
+
+        @Override
+        public byte[] encode(String value) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    int tag();
+
+    byte[] encode(T value);
+
+    T decode(byte[] bytes);
+}
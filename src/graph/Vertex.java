@@ -3,28 +3,71 @@ package graph;
 import java.util.*;
 
 public class Vertex<T> {
+    static final byte UNSET = 0;
+    static final byte WHITE = 1;
+    static final byte GRAY = 2;
+    static final byte BLACK = 3;
+
+    private static final String[] COLORS = {null, "white", "gray", "black"};
+
     private final T value;
-    private String color;
+    private int id;
+    private byte color;
     private int distance;
     private int discoveryTime;
     private int finishingTime;
     private Vertex<T> parent;
-    private final Map<Vertex<T>, Integer> adjacent;
+    private final AdjacencyList adjacent;
+    private AdjacencyList incoming;
+    private final List<Vertex<T>> owner;
+    private Map<Vertex<T>, Integer> detached;
 
     public Vertex(T value) {
+        this(value, 0, null);
+    }
+
+    Vertex(T value, int id) {
+        this(value, id, null);
+    }
+
+    Vertex(T value, int id, List<Vertex<T>> owner) {
         this.value = value;
-        this.adjacent = new HashMap<>();
+        this.id = id;
+        this.owner = owner;
+        this.adjacent = new AdjacencyList();
     }
 
     public T getValue() {
         return this.value;
     }
 
+    public int getId() {
+        return this.id;
+    }
+
+    void setId(int id) {
+        this.id = id;
+    }
+
     public String getColor() {
-        return this.color;
+        return COLORS[this.color];
     }
 
     public void setColor(String color) {
+        for (byte i = 0; i < COLORS.length; i++) {
+            if (Objects.equals(COLORS[i], color)) {
+                this.color = i;
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Unknown color: " + color);
+    }
+
+    byte getMark() {
+        return this.color;
+    }
+
+    void setMark(byte color) {
         this.color = color;
     }
 
@@ -61,19 +104,118 @@ public class Vertex<T> {
     }
 
     public void addAdjacent(Vertex<T> vertex, int weight) {
-        this.adjacent.put(vertex, weight);
+        if (this.owner == null) {
+            detached().put(vertex, weight);
+            return;
+        }
+        if (!owns(vertex)) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+
+        int slot = this.adjacent.indexOf(vertex.getId());
+        if (slot == -1) {
+            this.adjacent.add(vertex.getId(), weight);
+        } else {
+            this.adjacent.setWeight(slot, weight);
+        }
     }
 
     public void removeAdjacent(Vertex<T> vertex) {
-        this.adjacent.remove(vertex);
+        if (this.owner == null) {
+            detached().remove(vertex);
+        } else if (owns(vertex)) {
+            this.adjacent.remove(vertex.getId());
+        }
     }
 
     public Map<Vertex<T>, Integer> getAdjacent() {
+        return this.owner == null ? detached() : new AdjacentView();
+    }
+
+    public AdjacencyList getAdjacencyList() {
         return this.adjacent;
     }
 
+    AdjacencyList getIncomingList() {
+        if (this.incoming == null) {
+            this.incoming = new AdjacencyList();
+        }
+        return this.incoming;
+    }
+
+    private Map<Vertex<T>, Integer> detached() {
+        if (this.detached == null) {
+            this.detached = new LinkedHashMap<>();
+        }
+        return this.detached;
+    }
+
+    private boolean owns(Vertex<?> vertex) {
+        return vertex.getId() < this.owner.size() && this.owner.get(vertex.getId()) == vertex;
+    }
+
     @Override
     public String toString() {
         return this.value.toString();
     }
+
+    private class AdjacentView extends AbstractMap<Vertex<T>, Integer> {
+
+        @Override
+        public int size() {
+            return Vertex.this.adjacent.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return slotOf(key) != -1;
+        }
+
+        @Override
+        public Integer get(Object key) {
+            int slot = slotOf(key);
+            return slot == -1 ? null : Vertex.this.adjacent.weight(slot);
+        }
+
+        @Override
+        public Set<Entry<Vertex<T>, Integer>> entrySet() {
+            return new AbstractSet<Entry<Vertex<T>, Integer>>() {
+                @Override
+                public int size() {
+                    return Vertex.this.adjacent.size();
+                }
+
+                @Override
+                public Iterator<Entry<Vertex<T>, Integer>> iterator() {
+                    return new Iterator<Entry<Vertex<T>, Integer>>() {
+                        private int slot;
+
+                        @Override
+                        public boolean hasNext() {
+                            return this.slot < Vertex.this.adjacent.size();
+                        }
+
+                        @Override
+                        public Entry<Vertex<T>, Integer> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Vertex<T> target = Vertex.this.owner.get(Vertex.this.adjacent.target(this.slot));
+                            int weight = Vertex.this.adjacent.weight(this.slot);
+                            this.slot++;
+                            return new SimpleImmutableEntry<>(target, weight);
+                        }
+                    };
+                }
+            };
+        }
+
+        private int slotOf(Object key) {
+            if (!(key instanceof Vertex)) {
+                return -1;
+            }
+            Vertex<?> vertex = (Vertex<?>) key;
+            return owns(vertex) ? Vertex.this.adjacent.indexOf(vertex.getId()) : -1;
+        }
+    }
 }
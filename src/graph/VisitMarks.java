@@ -0,0 +1,36 @@
+package graph;
+
+import java.util.*;
+
+final class VisitMarks {
+    private final int[] stamps;
+    private int epoch;
+
+    VisitMarks(int capacity) {
+        this.stamps = new int[capacity];
+        this.epoch = 1;
+    }
+
+    int capacity() {
+        return this.stamps.length;
+    }
+
+    void reset() {
+        if (++this.epoch == Integer.MAX_VALUE) {
+            Arrays.fill(this.stamps, 0);
+            this.epoch = 1;
+        }
+    }
+
+    boolean isMarked(int vertex) {
+        return this.stamps[vertex] == this.epoch;
+    }
+
+    boolean mark(int vertex) {
+        if (this.stamps[vertex] == this.epoch) {
+            return false;
+        }
+        this.stamps[vertex] = this.epoch;
+        return true;
+    }
+}
@@ -0,0 +1,89 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdjacencyListTest {
+    private AdjacencyList list;
+
+    @BeforeEach
+    void setUp() {
+        this.list = new AdjacencyList();
+    }
+
+    @Test
+    void testAdd() {
+        // Act
+        this.list.add(3, 7);
+        this.list.add(5, 2);
+
+        // Assert
+        assertEquals(2, this.list.size());
+        assertEquals(1, this.list.indexOf(5));
+        assertEquals(2, this.list.weight(this.list.indexOf(5)));
+        assertFalse(this.list.contains(4));
+    }
+
+    @Test
+    void testRemove() {
+        // Act
+        this.list.add(3, 7);
+        this.list.add(5, 2);
+        this.list.add(8, 1);
+
+        // Assert
+        assertTrue(this.list.remove(3));
+        assertFalse(this.list.remove(3));
+        assertEquals(2, this.list.size());
+        assertEquals(1, this.list.weight(this.list.indexOf(8)));
+    }
+
+    @Test
+    void testReplace() {
+        // Act
+        this.list.add(3, 7);
+        this.list.replace(3, 9);
+
+        // Assert
+        assertFalse(this.list.contains(3));
+        assertEquals(7, this.list.weight(this.list.indexOf(9)));
+    }
+
+    @Test
+    void testAgreesWithAMapPastTheIndexThreshold() {
+        // Arrange
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(5);
+
+        // Act
+        for (int i = 0; i < 20000; i++) {
+            int target = random.nextInt(500);
+            int operation = random.nextInt(3);
+            if (operation < 2 && !expected.containsKey(target)) {
+                this.list.add(target, i);
+                expected.put(target, i);
+            } else if (operation == 2) {
+                assertEquals(expected.remove(target) != null, this.list.remove(target));
+            } else {
+                int replacement = 500 + random.nextInt(500);
+                if (!expected.containsKey(replacement)) {
+                    this.list.replace(target, replacement);
+                    expected.put(replacement, expected.remove(target));
+                }
+            }
+        }
+
+        // Assert
+        assertEquals(expected.size(), this.list.size());
+        for (int slot = 0; slot < this.list.size(); slot++) {
+            assertEquals(expected.get(this.list.target(slot)), this.list.weight(slot));
+            assertEquals(slot, this.list.indexOf(this.list.target(slot)));
+        }
+    }
+}
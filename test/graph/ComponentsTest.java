@@ -0,0 +1,87 @@
+package graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComponentsTest {
+
+    @Test
+    void testConnectedComponents() {
+        // Arrange
+        GraphAdjacencyList<Integer> graph = new GraphAdjacencyList<>(false);
+        graph.addVertices(Arrays.asList(1, 2, 3, 4, 5, 6, 7));
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(4, 5, 1);
+        graph.addEdge(6, 6, 1);
+
+        // Act
+        Components<Integer> components = graph.connectedComponents();
+
+        // Assert
+        assertEquals(4, components.getCount());
+        assertTrue(components.isConnected(1, 3));
+        assertFalse(components.isConnected(3, 4));
+        assertEquals(3, components.getSize(components.getComponent(2)));
+        assertEquals(0, components.getComponent(1));
+        assertEquals(3, components.getComponent(7));
+    }
+
+    @Test
+    void testStronglyConnectedComponents() {
+        // Arrange
+        GraphAdjacencyList<Integer> graph = new GraphAdjacencyList<>(true);
+        graph.addVertices(Arrays.asList(1, 2, 3, 4, 5, 6));
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 1, 1);
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(4, 5, 1);
+        graph.addEdge(5, 4, 1);
+        graph.addEdge(5, 6, 1);
+
+        // Act
+        Components<Integer> strong = graph.stronglyConnectedComponents();
+        Components<Integer> weak = graph.connectedComponents();
+
+        // Assert
+        assertEquals(3, strong.getCount());
+        assertTrue(strong.isConnected(1, 3));
+        assertTrue(strong.isConnected(4, 5));
+        assertFalse(strong.isConnected(3, 4));
+        assertEquals(1, strong.getSize(strong.getComponent(6)));
+        assertEquals(1, weak.getCount());
+    }
+
+    @Test
+    void testStronglyConnectedComponentsOnARandomGraph() {
+        // Arrange
+        GraphAdjacencyList<Integer> graph = new GraphAdjacencyList<>(true);
+        Random rng = new Random(9);
+        int n = 300;
+        for (int i = 0; i < n; i++) {
+            graph.addVertex(i);
+        }
+        for (int i = 0; i < n * 2; i++) {
+            try {
+                graph.addEdge(rng.nextInt(n), rng.nextInt(n), 1);
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+
+        // Act
+        Components<Integer> components = graph.stronglyConnectedComponents();
+
+        // Assert
+        for (int u = 0; u < n; u += 7) {
+            BFSResult<Integer> from = graph.breadthFirstSearch(u);
+            for (int v = 0; v < n; v++) {
+                boolean mutual = from.isReachable(v) && graph.breadthFirstSearch(v).isReachable(u);
+                assertEquals(mutual, components.isConnected(u, v));
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentGraphTest {
+    private ConcurrentGraph<Integer> graph;
+
+    @BeforeEach
+    void setUp() {
+        this.graph = new ConcurrentGraph<>(false);
+    }
+
+    @Test
+    void testAddVertexTwice() {
+        // Act
+        this.graph.addVertex(1);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> this.graph.addVertex(1));
+    }
+
+    @Test
+    void testAddAnEdgeTwice() {
+        // Act
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addEdge(1, 2, 1);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> this.graph.addEdge(2, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> this.graph.addEdge(1, 3, 1));
+    }
+
+    @Test
+    void testRemoveVertex() {
+        // Act
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addVertex(3);
+        this.graph.addEdge(1, 2, 1);
+        this.graph.addEdge(2, 3, 1);
+        this.graph.removeVertex(2);
+
+        // Assert
+        assertEquals(2, this.graph.freeze().vertexCount());
+        assertEquals(0, this.graph.freeze().edgeCount());
+    }
+
+    @Test
+    void testFreezeReusesTheSnapshotUntilAWrite() {
+        // Arrange
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+
+        // Act
+        CsrGraph<Integer> first = this.graph.freeze();
+        CsrGraph<Integer> second = this.graph.freeze();
+        this.graph.addEdge(1, 2, 1);
+        CsrGraph<Integer> third = this.graph.freeze();
+
+        // Assert
+        assertSame(first, second);
+        assertNotSame(second, third);
+        assertEquals(2, third.edgeCount());
+    }
+
+    @Test
+    void testGetVerticesReturnsLiveVertices() {
+        // Act
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addEdge(1, 2, 4);
+
+        // Assert
+        List<Vertex<Integer>> vertices = this.graph.getVertices();
+        assertEquals(2, vertices.size());
+        assertEquals(4, vertices.get(0).getAdjacent().get(vertices.get(1)));
+        assertEquals(1, vertices.get(1).getAdjacent().size());
+    }
+
+    @Test
+    void testConcurrentWriters() throws Exception {
+        // Arrange
+        int vertices = 400;
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int i = 0; i < vertices; i++) {
+            this.graph.addVertex(i);
+        }
+
+        // Act
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            futures.add(executor.submit(() -> {
+                for (int u = offset; u < vertices; u += threads) {
+                    for (int v = u + 1; v < vertices; v += 7) {
+                        this.graph.addEdge(u, v, 1);
+                    }
+                    this.graph.shortestPaths(0);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Assert
+        int expected = 0;
+        for (int u = 0; u < vertices; u++) {
+            for (int v = u + 1; v < vertices; v += 7) {
+                expected++;
+            }
+        }
+        assertEquals(2 * expected, this.graph.freeze().edgeCount());
+        assertEquals(1, this.graph.breadthFirstSearch(0).getDistance(1));
+    }
+}
@@ -0,0 +1,117 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsrGraphTest {
+    private GraphAdjacencyList<Integer> graph;
+
+    @BeforeEach
+    void setUp() {
+        this.graph = new GraphAdjacencyList<>(false);
+
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addVertex(3);
+        this.graph.addVertex(4);
+        this.graph.addVertex(5);
+
+        this.graph.addEdge(1, 2, 4);
+        this.graph.addEdge(1, 3, 2);
+        this.graph.addEdge(2, 4, 1);
+        this.graph.addEdge(3, 4, 5);
+        this.graph.addEdge(4, 5, 3);
+    }
+
+    @Test
+    void testFreeze() {
+        // Act
+        CsrGraph<Integer> csr = this.graph.freeze();
+
+        // Assert
+        assertEquals(5, csr.vertexCount());
+        assertEquals(10, csr.edgeCount());
+        assertEquals(2, csr.endEdge(0) - csr.firstEdge(0));
+        assertEquals(3, csr.endEdge(3) - csr.firstEdge(3));
+    }
+
+    @Test
+    void testFreezeIsNotAffectedByMutations() {
+        // Act
+        CsrGraph<Integer> csr = this.graph.freeze();
+        this.graph.addVertex(6);
+        this.graph.addEdge(5, 6, 1);
+
+        // Assert
+        assertEquals(5, csr.vertexCount());
+        assertEquals(10, csr.edgeCount());
+    }
+
+    @Test
+    void testMutationsAreUnsupported() {
+        // Act
+        CsrGraph<Integer> csr = this.graph.freeze();
+
+        // Assert
+        assertThrows(UnsupportedOperationException.class, () -> csr.addVertex(6));
+        assertThrows(UnsupportedOperationException.class, () -> csr.removeEdge(1, 2));
+    }
+
+    @Test
+    void testBFS() {
+        // Act
+        CsrGraph<Integer> csr = this.graph.freeze();
+        csr.BFS(1);
+
+        // Assert
+        assertEquals(3, csr.getVertices().get(4).getDistance());
+    }
+
+    @Test
+    void testDFS() {
+        // Act
+        CsrGraph<Integer> csr = this.graph.freeze();
+        csr.DFS(1);
+
+        // Assert
+        assertEquals(3, csr.getVertices().get(3).getDiscoveryTime());
+        assertEquals(8, csr.getVertices().get(3).getFinishingTime());
+    }
+
+    @Test
+    void testDijkstra() {
+        // Act
+        CsrGraph<Integer> csr = this.graph.freeze();
+        Map<Vertex<Integer>, Vertex<Integer>> previous = csr.dijkstra(1);
+
+        // Assert
+        assertEquals(5, csr.getVertices().get(3).getDistance());
+        assertEquals(2, previous.get(csr.getVertices().get(3)).getValue());
+    }
+
+    @Test
+    void testFloydWarshall() {
+        // Act
+        Vertex<Integer>[][] prevMatrix = this.graph.freeze().floydWarshall();
+
+        // Assert
+        assertEquals(4, prevMatrix[0][4].getValue());
+        assertNull(prevMatrix[0][0]);
+    }
+
+    @Test
+    void testPrim() {
+        // Act
+        CsrGraph<Integer> csr = this.graph.freeze();
+        csr.prim(5);
+
+        // Assert
+        assertEquals(3, csr.getVertices().get(3).getDistance());
+        assertEquals(1, csr.getVertices().get(1).getDistance());
+        assertEquals(2, csr.getVertices().get(2).getDistance());
+    }
+}
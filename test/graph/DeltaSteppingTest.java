@@ -0,0 +1,134 @@
+package graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeltaSteppingTest {
+
+    @Test
+    void testParallelShortestPaths() {
+        // Arrange
+        GraphAdjacencyList<Integer> graph = new GraphAdjacencyList<>(false);
+
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addVertex(3);
+        graph.addVertex(4);
+        graph.addVertex(5);
+        graph.addVertex(6);
+
+        graph.addEdge(1, 2, 4);
+        graph.addEdge(1, 3, 2);
+        graph.addEdge(2, 4, 1);
+        graph.addEdge(3, 4, 5);
+        graph.addEdge(4, 5, 3);
+
+        // Act
+        ShortestPathTree<Integer> result = graph.parallelShortestPaths(1, 2);
+
+        // Assert
+        assertEquals(8, result.getDistance(5));
+        assertEquals(4, result.getParent(5));
+        assertNull(result.getParent(1));
+        assertFalse(result.isReachable(6));
+        assertThrows(IllegalArgumentException.class, () -> graph.parallelShortestPaths(1, 0));
+    }
+
+    @Test
+    void testRejectsNegativeWeights() {
+        // Arrange
+        GraphAdjacencyList<Integer> graph = new GraphAdjacencyList<>(true);
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addVertex(3);
+        graph.addEdge(1, 2, 2);
+        graph.addEdge(2, 3, -5);
+
+        // Assert
+        assertEquals(-3, graph.shortestPaths(1).getDistance(3));
+        assertThrows(IllegalArgumentException.class, () -> graph.parallelShortestPaths(1));
+        assertThrows(IllegalArgumentException.class, () -> graph.parallelShortestPaths(1, 3));
+    }
+
+    @Test
+    void testSmallDeltaWithLargeWeights() {
+        // Arrange
+        GraphAdjacencyList<Integer> graph = new GraphAdjacencyList<>(true);
+        for (int v = 0; v < 5; v++) {
+            graph.addVertex(v);
+        }
+        graph.addEdge(0, 1, 500000);
+        graph.addEdge(1, 2, 400000);
+        graph.addEdge(0, 2, 1000000);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 4, 2000000);
+
+        // Act
+        ShortestPathTree<Integer> result = graph.parallelShortestPaths(0, 2);
+
+        // Assert
+        assertEquals(900001, result.getDistance(3));
+        assertEquals(2900001, result.getDistance(4));
+        assertEquals(2900001, graph.parallelShortestPaths(0).getDistance(4));
+        assertThrows(IllegalArgumentException.class, () -> graph.parallelShortestPaths(0, 1));
+    }
+
+    @Test
+    void testManyWorkersShareOneBucketRing() {
+        // Arrange
+        GraphAdjacencyList<Integer> graph = new GraphAdjacencyList<>(true);
+        for (int v = 0; v < 3; v++) {
+            graph.addVertex(v);
+        }
+        graph.addEdge(0, 1, 999999);
+        graph.addEdge(1, 2, 1);
+
+        // Act
+        ShortestPathTree<Integer> result = DeltaStepping.run(graph.freeze(), 0, 1, new ForkJoinPool(64));
+
+        // Assert
+        assertEquals(1000000, result.getDistance(2));
+    }
+
+    @Test
+    void testAgreesWithDijkstra() {
+        for (boolean directed : new boolean[]{true, false}) {
+            // Arrange
+            GraphAdjacencyList<Integer> graph = new GraphAdjacencyList<>(directed);
+            Random rng = new Random(5);
+            int n = 3000;
+
+            for (int i = 0; i < n; i++) {
+                graph.addVertex(i);
+            }
+            for (int i = 0; i < n * 8; i++) {
+                try {
+                    graph.addEdge(rng.nextInt(n), rng.nextInt(n), rng.nextInt(100));
+                } catch (IllegalArgumentException ignored) {
+                }
+            }
+            CsrGraph<Integer> csr = graph.freeze();
+            ShortestPathTree<Integer> expected = graph.shortestPaths(0);
+
+            for (int delta : new int[]{1, 10, DeltaStepping.defaultDelta(csr), 1000}) {
+                // Act
+                ShortestPathTree<Integer> actual = DeltaStepping.run(csr, 0, delta, new ForkJoinPool(4));
+
+                // Assert
+                for (int v = 0; v < n; v++) {
+                    assertEquals(expected.getDistanceById(v), actual.getDistanceById(v));
+                    int p = actual.getParentById(v);
+                    if (p != -1) {
+                        int slot = graph.getVertices().get(p).getAdjacencyList().indexOf(v);
+                        int weight = graph.getVertices().get(p).getAdjacencyList().weight(slot);
+                        assertEquals(actual.getDistanceById(v), actual.getDistanceById(p) + weight);
+                    }
+                }
+            }
+        }
+    }
+}
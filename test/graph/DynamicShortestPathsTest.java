@@ -0,0 +1,152 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DynamicShortestPathsTest {
+    private GraphAdjacencyList<Integer> graph;
+
+    @BeforeEach
+    void setUp() {
+        this.graph = new GraphAdjacencyList<>(true);
+
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addVertex(3);
+        this.graph.addVertex(4);
+        this.graph.addVertex(5);
+
+        this.graph.addEdge(1, 2, 4);
+        this.graph.addEdge(1, 3, 2);
+        this.graph.addEdge(2, 4, 1);
+        this.graph.addEdge(3, 4, 5);
+        this.graph.addEdge(4, 5, 3);
+    }
+
+    @Test
+    void testAddEdgeShortensPaths() {
+        // Arrange
+        DynamicShortestPaths<Integer> paths = this.graph.monitor(1);
+
+        // Act
+        this.graph.addEdge(3, 5, 1);
+
+        // Assert
+        assertEquals(3, paths.getDistance(5));
+        assertEquals(Arrays.asList(1, 3, 5), paths.pathTo(5));
+    }
+
+    @Test
+    void testRemoveTreeEdgeReroutesThroughAnotherPath() {
+        // Arrange
+        DynamicShortestPaths<Integer> paths = this.graph.monitor(1);
+
+        // Act
+        this.graph.removeEdge(2, 4);
+
+        // Assert
+        assertEquals(7, paths.getDistance(4));
+        assertEquals(10, paths.getDistance(5));
+        assertEquals(Integer.valueOf(3), paths.getParent(4));
+    }
+
+    @Test
+    void testUpdateEdge() {
+        // Arrange
+        DynamicShortestPaths<Integer> paths = this.graph.monitor(1);
+
+        // Act
+        this.graph.updateEdge(1, 2, 10);
+        int increased = paths.getDistance(4);
+        this.graph.updateEdge(3, 4, 1);
+
+        // Assert
+        assertEquals(7, increased);
+        assertEquals(3, paths.getDistance(4));
+        assertThrows(IllegalArgumentException.class, () -> this.graph.updateEdge(4, 1, 1));
+    }
+
+    @Test
+    void testRemovingTheSourceClosesTheMonitor() {
+        // Arrange
+        DynamicShortestPaths<Integer> paths = this.graph.monitor(1);
+        DynamicShortestPaths<Integer> other = this.graph.monitor(3);
+
+        // Act
+        this.graph.removeVertex(1);
+
+        // Assert
+        assertTrue(paths.isClosed());
+        assertThrows(IllegalStateException.class, () -> paths.getDistance(5));
+        assertEquals(8, other.getDistance(5));
+    }
+
+    @Test
+    void testNegativeWeightsAreRejected() {
+        // Arrange
+        GraphAdjacencyList<Integer> undirected = new GraphAdjacencyList<>(false);
+        undirected.addVertex(1);
+        undirected.addVertex(2);
+        undirected.addVertex(3);
+        undirected.addEdge(1, 2, 1);
+        DynamicShortestPaths<Integer> paths = undirected.monitor(1);
+
+        // Act
+        this.graph.addEdge(5, 1, -2);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> undirected.addEdge(2, 3, -1));
+        assertThrows(IllegalArgumentException.class, () -> undirected.updateEdge(1, 2, -1));
+        assertThrows(IllegalArgumentException.class,
+                () -> undirected.addEdges(new int[]{1}, new int[]{2}, new int[]{-1}));
+        assertThrows(IllegalArgumentException.class, () -> this.graph.monitor(1));
+        assertEquals(1, paths.getDistance(2));
+        assertFalse(paths.isReachable(3));
+    }
+
+    @Test
+    void testRandomUpdatesMatchDijkstra() {
+        for (boolean directed : new boolean[]{true, false}) {
+            // Arrange
+            GraphAdjacencyList<Integer> random = new GraphAdjacencyList<>(directed);
+            Random rng = new Random(11);
+            for (int v = 0; v < 60; v++) {
+                random.addVertex(v);
+            }
+            DynamicShortestPaths<Integer> first = random.monitor(0);
+            DynamicShortestPaths<Integer> second = random.monitor(30);
+            List<int[]> edges = new ArrayList<>();
+
+            for (int step = 0; step < 600; step++) {
+                // Act
+                int action = rng.nextInt(3);
+                if (action == 0 || edges.isEmpty()) {
+                    int u = rng.nextInt(60);
+                    int v = rng.nextInt(60);
+                    if (u != v && !random.getVertices().get(random.indexOf(u)).getAdjacencyList().contains(random.indexOf(v))) {
+                        random.addEdge(u, v, rng.nextInt(20));
+                        edges.add(new int[]{u, v});
+                    }
+                } else if (action == 1) {
+                    int[] edge = edges.remove(rng.nextInt(edges.size()));
+                    random.removeEdge(edge[0], edge[1]);
+                } else {
+                    int[] edge = edges.get(rng.nextInt(edges.size()));
+                    random.updateEdge(edge[0], edge[1], rng.nextInt(20));
+                }
+
+                // Assert
+                ShortestPathTree<Integer> expectedFirst = random.shortestPaths(0);
+                ShortestPathTree<Integer> expectedSecond = random.shortestPaths(30);
+                for (int v = 0; v < 60; v++) {
+                    assertEquals(expectedFirst.getDistance(v), first.getDistance(v));
+                    assertEquals(expectedSecond.getDistance(v), second.getDistance(v));
+                }
+            }
+        }
+    }
+}
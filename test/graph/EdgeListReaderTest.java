@@ -0,0 +1,152 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EdgeListReaderTest {
+    private GraphAdjacencyList<Integer> graph;
+
+    @BeforeEach
+    void setUp() {
+        this.graph = new GraphAdjacencyList<>(false);
+    }
+
+    @Test
+    void testReadCsvWithAHeader() throws IOException {
+        // Act
+        read("source,target,weight\n1,2,4\r\n1,3,2\n\n2,4,1\n", EdgeListFormat.CSV, this.graph);
+
+        // Assert
+        assertEquals(4, this.graph.getVertices().size());
+        assertEquals(3, this.graph.freeze().edgeCount() / 2);
+        assertEquals(6, this.graph.shortestPaths(3).getDistance(2));
+    }
+
+    @Test
+    void testReadSnapWithoutWeights() throws IOException {
+        // Act
+        read("# Directed graph\n# FromNodeId\tToNodeId\n0\t1\n1\t2\n2\t0\n", EdgeListFormat.SNAP, this.graph);
+
+        // Assert
+        assertEquals(3, this.graph.getVertices().size());
+        assertEquals(1, this.graph.shortestPaths(0).getDistance(2));
+    }
+
+    @Test
+    void testReadDimacs() throws IOException {
+        // Arrange
+        GraphAdjacencyList<Integer> directed = new GraphAdjacencyList<>(true);
+
+        // Act
+        read("c road network\np sp 4 4\na 1 2 7\na 2 3 1\na 3 1 2\na 1 4 9\n", EdgeListFormat.DIMACS, directed);
+
+        // Assert
+        assertEquals(4, directed.getVertices().size());
+        assertEquals(8, directed.shortestPaths(1).getDistance(3));
+        assertEquals(9, directed.shortestPaths(1).getDistance(4));
+    }
+
+    @Test
+    void testReadMalformedLine() {
+        // Assert
+        IOException e = assertThrows(IOException.class,
+                () -> read("1\t2\n3\tx4\n", EdgeListFormat.TSV, this.graph));
+        assertTrue(e.getMessage().contains("line 2"));
+    }
+
+    @Test
+    void testWriteAndReadBack() throws IOException {
+        // Arrange
+        this.graph.addVertices(Arrays.asList(1, 2, 3, 4));
+        this.graph.addEdge(1, 2, 4);
+        this.graph.addEdge(2, 3, 1);
+        this.graph.addEdge(3, 4, 5);
+
+        for (EdgeListFormat format : EdgeListFormat.values()) {
+            // Act
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            EdgeListWriter.write(this.graph.freeze(), format, out);
+            GraphAdjacencyList<Integer> copy = new GraphAdjacencyList<>(false);
+            EdgeListReader.read(new ByteArrayInputStream(out.toByteArray()), format, copy);
+
+            // Assert
+            assertEquals(4, copy.getVertices().size());
+            assertEquals(6, copy.freeze().edgeCount());
+            assertEquals(10, copy.shortestPaths(1).getDistance(4));
+            assertEquals(10, copy.shortestPaths(4).getDistance(1));
+        }
+    }
+
+    @Test
+    void testDimacsWritesVertexIdsFromOne() throws IOException {
+        // Arrange
+        this.graph.addVertices(Arrays.asList(0, 1, 2));
+        this.graph.addEdge(0, 1, 3);
+        this.graph.addEdge(1, 2, 4);
+
+        // Act
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EdgeListWriter.write(this.graph.freeze(), EdgeListFormat.DIMACS, out);
+        GraphAdjacencyList<Integer> copy = new GraphAdjacencyList<>(false);
+        EdgeListReader.read(new ByteArrayInputStream(out.toByteArray()), EdgeListFormat.DIMACS, copy);
+
+        // Assert
+        assertEquals(3, copy.getVertices().size());
+        assertEquals(4, copy.freeze().edgeCount());
+        assertEquals(7, copy.shortestPaths(1).getDistance(3));
+    }
+
+    @Test
+    void testUndirectedReadSkipsReverseArcsAndDuplicates() throws IOException {
+        // Act
+        read("p sp 3 5\na 1 2 4\na 2 1 4\na 2 3 1\na 3 2 1\na 1 2 4\n", EdgeListFormat.DIMACS, this.graph);
+        read("3\t1\t9\n1\t3\t9\n", EdgeListFormat.TSV, this.graph);
+
+        // Assert
+        assertEquals(3, this.graph.getVertices().size());
+        assertEquals(6, this.graph.freeze().edgeCount());
+        assertEquals(5, this.graph.shortestPaths(1).getDistance(3));
+    }
+
+    @Test
+    void testDirectedDuplicateIsRejectedWithoutPartialGraph() {
+        // Arrange
+        GraphAdjacencyList<Integer> directed = new GraphAdjacencyList<>(true);
+
+        // Act
+        IOException e = assertThrows(IOException.class,
+                () -> read("1,2\n3,4\n1,2\n", EdgeListFormat.CSV, directed));
+
+        // Assert
+        assertTrue(e.getMessage().contains("line 3"));
+        assertTrue(directed.getVertices().isEmpty());
+    }
+
+    @Test
+    void testRejectedBatchRollsBackNewVertices() {
+        // Arrange
+        this.graph.addVertices(Arrays.asList(1, 2));
+        this.graph.addEdge(1, 2, 1);
+        this.graph.monitor(1);
+
+        // Act
+        IOException e = assertThrows(IOException.class, () -> read("2,3,1\n3,4,-1\n", EdgeListFormat.CSV, this.graph));
+
+        // Assert
+        assertTrue(e.getMessage().contains("lines 1-2"));
+        assertEquals(2, this.graph.getVertices().size());
+        assertFalse(this.graph.containsVertex(3));
+    }
+
+    private static void read(String text, EdgeListFormat format, GraphAdjacencyList<Integer> graph) throws IOException {
+        EdgeListReader.read(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), format, graph);
+    }
+}
@@ -0,0 +1,118 @@
+package graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FloydWarshallTest {
+
+    @Test
+    void testAllPairsShortestPaths() {
+        // Arrange
+        GraphAdjacencyList<Integer> graph = new GraphAdjacencyList<>(false);
+
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addVertex(3);
+        graph.addVertex(4);
+        graph.addVertex(5);
+
+        graph.addEdge(1, 2, 2);
+        graph.addEdge(1, 3, 4);
+        graph.addEdge(2, 4, 7);
+        graph.addEdge(3, 4, 3);
+        graph.addEdge(4, 5, 1);
+        graph.addEdge(1, 5, 20);
+
+        // Act
+        AllPairsShortestPaths<Integer> paths = graph.allPairsShortestPaths();
+
+        // Assert
+        assertEquals(8, paths.getDistance(1, 5));
+        assertEquals(3, paths.getNextHop(1, 5));
+        assertEquals(Arrays.asList(1, 3, 4, 5), paths.pathBetween(1, 5));
+        assertFalse(paths.hasNegativeCycle());
+    }
+
+    @Test
+    void testSelfLoopDoesNotLengthenTheDiagonal() {
+        // Arrange
+        GraphAdjacencyList<Integer> graph = new GraphAdjacencyList<>(true);
+
+        graph.addVertex(1);
+        graph.addVertex(2);
+
+        graph.addEdge(1, 1, 7);
+        graph.addEdge(1, 2, 3);
+
+        // Act
+        AllPairsShortestPaths<Integer> paths = graph.allPairsShortestPaths();
+
+        // Assert
+        assertEquals(0, paths.getDistance(1, 1));
+        assertEquals(Arrays.asList(1), paths.pathBetween(1, 1));
+        assertEquals(3, paths.getDistance(1, 2));
+        assertFalse(paths.hasNegativeCycle());
+    }
+
+    @Test
+    void testUnreachablePair() {
+        // Arrange
+        GraphAdjacencyList<Integer> graph = new GraphAdjacencyList<>(true);
+
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 3);
+
+        // Act
+        AllPairsShortestPaths<Integer> paths = graph.allPairsShortestPaths();
+
+        // Assert
+        assertFalse(paths.isReachable(2, 1));
+        assertNull(paths.getNextHop(2, 1));
+        assertTrue(paths.pathBetween(2, 1).isEmpty());
+    }
+
+    @Test
+    void testTiledAgreesWithDijkstra() {
+        // Arrange
+        GraphAdjacencyList<Integer> graph = new GraphAdjacencyList<>(true);
+        Random rng = new Random(3);
+        int n = FloydWarshall.TILE * 3 + 17;
+
+        for (int i = 0; i < n; i++) {
+            graph.addVertex(i);
+        }
+        for (int i = 0; i < n * 4; i++) {
+            try {
+                graph.addEdge(rng.nextInt(n), rng.nextInt(n), 1 + rng.nextInt(100));
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+
+        // Act
+        AllPairsShortestPaths<Integer> paths = graph.allPairsShortestPaths();
+
+        // Assert
+        for (int s = 0; s < n; s += 13) {
+            ShortestPathTree<Integer> tree = graph.shortestPaths(s);
+            for (int t = 0; t < n; t++) {
+                assertEquals(tree.getDistance(t), paths.getDistance(s, t));
+                if (s != t && paths.isReachable(s, t)) {
+                    int cost = 0;
+                    Integer previous = null;
+                    for (Integer v : paths.pathBetween(s, t)) {
+                        if (previous != null) {
+                            cost += graph.getVertices().get(previous).getAdjacent().get(graph.getVertices().get(v));
+                        }
+                        previous = v;
+                    }
+                    assertEquals(tree.getDistance(t), cost);
+                }
+            }
+        }
+    }
+}
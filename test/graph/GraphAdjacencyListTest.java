@@ -3,6 +3,13 @@ package graph;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GraphAdjacencyListTest {
@@ -47,6 +54,79 @@ class GraphAdjacencyListTest {
         assertThrows(IllegalArgumentException.class, () -> this.graph.addVertex(1));
     }
 
+    @Test
+    void testAddVertices() {
+        // Arrange
+        int vertices = 3;
+
+        // Act
+        this.graph.addVertices(Arrays.asList(1, 2, 3));
+
+        // Assert
+        assertEquals(vertices, this.graph.getVertices().size());
+        assertEquals(2, this.graph.indexOf(3));
+    }
+
+    @Test
+    void testAddVerticesWithADuplicate() {
+        // Act
+        this.graph.addVertex(1);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> this.graph.addVertices(Arrays.asList(2, 3, 1)));
+        assertEquals(1, this.graph.getVertices().size());
+        assertFalse(this.graph.containsVertex(2));
+    }
+
+    @Test
+    void testIndexOfAfterRemovingAVertex() {
+        // Act
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addVertex(3);
+        this.graph.removeVertex(1);
+
+        // Assert
+        assertEquals(1, this.graph.indexOf(2));
+        assertEquals(0, this.graph.indexOf(3));
+        assertEquals(3, this.graph.getVertices().get(0).getValue());
+        assertThrows(IllegalArgumentException.class, () -> this.graph.indexOf(1));
+    }
+
+    @Test
+    void testRemoveAVertexWithASelfLoop() {
+        // Act
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addEdge(1, 1, 1);
+        this.graph.addEdge(1, 2, 1);
+        this.graph.removeVertex(1);
+
+        // Assert
+        assertEquals(1, this.graph.getVertices().size());
+        assertEquals(0, this.graph.getVertices().get(0).getAdjacent().size());
+    }
+
+    @Test
+    void testRemoveAVertexRemovesItsEdges() {
+        // Arrange
+        GraphAdjacencyList<Integer> directed = new GraphAdjacencyList<>(true);
+
+        // Act
+        directed.addVertex(1);
+        directed.addVertex(2);
+        directed.addVertex(3);
+        directed.addEdge(1, 2, 1);
+        directed.addEdge(3, 2, 1);
+        directed.addEdge(2, 3, 1);
+        directed.removeVertex(2);
+
+        // Assert
+        assertEquals(0, directed.getVertices().get(0).getAdjacent().size());
+        assertEquals(0, directed.getVertices().get(1).getAdjacent().size());
+        assertFalse(directed.shortestPath(1, 3).isFound());
+    }
+
     @Test
     void testAddOneEdge() {
         // Arrange
@@ -102,6 +182,81 @@ class GraphAdjacencyListTest {
         assertThrows(IllegalArgumentException.class, () -> this.graph.addEdge(1, 2, 1));
     }
 
+    @Test
+    void testAddEdges() {
+        // Act
+        this.graph.addVertices(Arrays.asList(1, 2, 3, 4));
+        this.graph.addEdges(Arrays.asList(1, 1, 3), Arrays.asList(2, 3, 4), new int[]{5, 2, 7});
+
+        // Assert
+        assertEquals(2, this.graph.getVertices().get(0).getAdjacent().size());
+        assertEquals(2, this.graph.getVertices().get(2).getAdjacent().size());
+        assertEquals(9, this.graph.shortestPaths(1).getDistance(4));
+    }
+
+    @Test
+    void testAddEdgesInManySmallBatches() {
+        // Arrange
+        GraphAdjacencyList<Integer> directed = new GraphAdjacencyList<>(true);
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(i);
+        }
+        directed.addVertices(values);
+
+        // Act
+        for (int i = 1; i < 1000; i++) {
+            directed.addEdges(new int[]{0, i}, new int[]{i, (i + 1) % 1000}, new int[]{i, 1});
+        }
+
+        // Assert
+        assertEquals(999, directed.getVertices().get(0).getAdjacent().size());
+        assertEquals(1, directed.getVertices().get(1).getAdjacent().size());
+        assertEquals(2, directed.getVertices().get(2).getIncomingList().size());
+        assertEquals(999, directed.shortestPaths(0).getDistance(999));
+    }
+
+    @Test
+    void testAddEdgesByIdInADirectedGraph() {
+        // Arrange
+        GraphAdjacencyList<Integer> directed = new GraphAdjacencyList<>(true);
+
+        // Act
+        directed.addVertices(Arrays.asList(1, 2, 3));
+        directed.addEdges(new int[]{0, 1, 2}, new int[]{1, 2, 0}, new int[]{1, 1, 1});
+        directed.removeVertex(2);
+
+        // Assert
+        assertEquals(0, directed.getVertices().get(0).getAdjacent().size());
+        assertEquals(1, directed.getVertices().get(1).getAdjacent().size());
+    }
+
+    @Test
+    void testAddEdgesWithADuplicate() {
+        // Act
+        this.graph.addVertices(Arrays.asList(1, 2, 3));
+
+        // Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> this.graph.addEdges(Arrays.asList(1, 2, 2), Arrays.asList(2, 3, 1), new int[]{1, 1, 1}));
+        assertEquals(0, this.graph.getVertices().get(0).getAdjacent().size());
+        assertEquals(0, this.graph.getVertices().get(1).getAdjacent().size());
+    }
+
+    @Test
+    void testAddEdgesWithAnExistingEdge() {
+        // Act
+        this.graph.addVertices(Arrays.asList(1, 2, 3));
+        this.graph.addEdge(3, 1, 1);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> this.graph.addEdges(Arrays.asList(1, 2), Arrays.asList(2, 1), new int[]{1, 1}));
+        assertThrows(IllegalArgumentException.class,
+                () -> this.graph.addEdges(Arrays.asList(1), Arrays.asList(3), new int[]{1}));
+        assertEquals(1, this.graph.getVertices().get(0).getAdjacent().size());
+    }
+
     @Test
     void testRemoveOneVertex() {
         // Arrange
@@ -185,6 +340,48 @@ class GraphAdjacencyListTest {
         assertThrows(IllegalArgumentException.class, () -> this.graph.removeEdge(1, 2));
     }
 
+    @Test
+    void testRandomMutationsKeepAdjacencyConsistent() {
+        // Arrange
+        GraphAdjacencyList<Integer> directed = new GraphAdjacencyList<>(true);
+        Map<Integer, Map<Integer, Integer>> expected = new HashMap<>();
+        Random random = new Random(9);
+
+        // Act
+        for (int i = 0; i < 20000; i++) {
+            int u = random.nextInt(60);
+            int v = random.nextInt(60);
+            int operation = random.nextInt(10);
+            if (operation == 0 && !expected.containsKey(u)) {
+                directed.addVertex(u);
+                expected.put(u, new HashMap<>());
+            } else if (operation == 1 && expected.containsKey(u)) {
+                directed.removeVertex(u);
+                expected.remove(u);
+                for (Map<Integer, Integer> edges : expected.values()) {
+                    edges.remove(u);
+                }
+            } else if (operation < 7 && expected.containsKey(u) && expected.containsKey(v) && !expected.get(u).containsKey(v)) {
+                directed.addEdge(u, v, i);
+                expected.get(u).put(v, i);
+            } else if (expected.containsKey(u) && expected.get(u).containsKey(v)) {
+                directed.removeEdge(u, v);
+                expected.get(u).remove(v);
+            }
+        }
+
+        // Assert
+        assertEquals(expected.size(), directed.getVertices().size());
+        for (Vertex<Integer> vertex : directed.getVertices()) {
+            Map<Integer, Integer> actual = new HashMap<>();
+            for (Map.Entry<Vertex<Integer>, Integer> edge : vertex.getAdjacent().entrySet()) {
+                actual.put(edge.getKey().getValue(), edge.getValue());
+            }
+            assertEquals(expected.get(vertex.getValue()), actual);
+            assertEquals(vertex.getId(), directed.indexOf(vertex.getValue()));
+        }
+    }
+
     @Test
     void testBFS() {
         // Arrange
@@ -481,4 +678,159 @@ class GraphAdjacencyListTest {
         // Assert
         assertEquals(weight, this.graph.getVertices().get(3).getDistance());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testBreadthFirstSearch() {
+        // Act
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addVertex(3);
+        this.graph.addVertex(4);
+        this.graph.addVertex(5);
+
+        this.graph.addEdge(1, 2, 4);
+        this.graph.addEdge(1, 3, 2);
+        this.graph.addEdge(2, 4, 1);
+        this.graph.addEdge(3, 4, 5);
+        this.graph.addEdge(4, 5, 3);
+
+        BFSResult<Integer> result = this.graph.breadthFirstSearch(1);
+
+        // Assert
+        assertEquals(3, result.getDistance(5));
+        assertEquals(4, result.getParent(5));
+        assertNull(this.graph.getVertices().get(4).getColor());
+    }
+
+    @Test
+    void testColorCompatibilityView() {
+        // Act
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.BFS(1);
+        Vertex<Integer> vertex = this.graph.getVertices().get(0);
+
+        // Assert
+        assertEquals("black", vertex.getColor());
+        assertEquals("white", this.graph.getVertices().get(1).getColor());
+        vertex.setColor("gray");
+        assertEquals("gray", vertex.getColor());
+        assertThrows(IllegalArgumentException.class, () -> vertex.setColor("red"));
+    }
+
+    @Test
+    void testDepthFirstSearch() {
+        // Act
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addVertex(3);
+
+        this.graph.addEdge(1, 2, 1);
+
+        DFSResult<Integer> result = this.graph.depthFirstSearch(1);
+
+        // Assert
+        assertEquals(2, result.getDiscoveryTime(2));
+        assertEquals(3, result.getFinishingTime(2));
+        assertFalse(result.isVisited(3));
+    }
+
+    @Test
+    void testDepthFirstSearchVisitsEveryVertex() {
+        // Act
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addVertex(3);
+
+        this.graph.addEdge(1, 2, 1);
+
+        DFSResult<Integer> result = this.graph.depthFirstSearch();
+
+        // Assert
+        assertEquals(5, result.getDiscoveryTime(3));
+        assertEquals(6, result.getFinishingTime(3));
+        assertNull(result.getParent(3));
+        assertNull(result.getSource());
+    }
+
+    @Test
+    void testDepthFirstSearchOnADeepPath() {
+        // Arrange
+        int vertices = 100000;
+
+        // Act
+        for (int i = 0; i < vertices; i++) {
+            this.graph.addVertex(i);
+        }
+        for (int i = 1; i < vertices; i++) {
+            this.graph.addEdge(i - 1, i, 1);
+        }
+
+        DFSResult<Integer> result = this.graph.depthFirstSearch(0);
+
+        // Assert
+        assertEquals(vertices, result.getDiscoveryTime(vertices - 1));
+        assertEquals(2 * vertices, result.getFinishingTime(0));
+    }
+
+    @Test
+    void testShortestPaths() {
+        // Act
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addVertex(3);
+        this.graph.addVertex(4);
+        this.graph.addVertex(5);
+
+        this.graph.addEdge(1, 2, 4);
+        this.graph.addEdge(1, 3, 2);
+        this.graph.addEdge(2, 4, 1);
+        this.graph.addEdge(3, 4, 5);
+        this.graph.addEdge(4, 5, 3);
+
+        ShortestPathTree<Integer> result = this.graph.shortestPaths(1);
+
+        // Assert
+        assertEquals(8, result.getDistance(5));
+        assertEquals(Arrays.asList(1, 2, 4, 5), result.pathTo(5));
+    }
+
+    @Test
+    void testShortestPathsSeesLaterMutations() {
+        // Act
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addVertex(3);
+
+        this.graph.addEdge(1, 2, 4);
+        this.graph.addEdge(2, 3, 4);
+        int before = this.graph.shortestPaths(1).getDistance(3);
+        this.graph.addEdge(1, 3, 1);
+
+        // Assert
+        assertEquals(8, before);
+        assertEquals(1, this.graph.shortestPaths(1).getDistance(3));
+    }
+
+    @Test
+    void testMinimumSpanningTree() {
+        // Act
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addVertex(3);
+        this.graph.addVertex(4);
+        this.graph.addVertex(5);
+
+        this.graph.addEdge(1, 2, 4);
+        this.graph.addEdge(1, 3, 2);
+        this.graph.addEdge(2, 4, 1);
+        this.graph.addEdge(3, 4, 5);
+        this.graph.addEdge(5, 2, 1);
+
+        SpanningTree<Integer> result = this.graph.minimumSpanningTree(5);
+
+        // Assert
+        assertEquals(8, result.getTotalWeight());
+        assertEquals(2, result.getParent(4));
+    }
+}
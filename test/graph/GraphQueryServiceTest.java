@@ -0,0 +1,179 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GraphQueryServiceTest {
+    private GraphAdjacencyList<Integer> graph;
+
+    @BeforeEach
+    void setUp() {
+        this.graph = new GraphAdjacencyList<>(true);
+
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addVertex(3);
+        this.graph.addVertex(4);
+
+        this.graph.addEdge(1, 2, 4);
+        this.graph.addEdge(1, 3, 1);
+        this.graph.addEdge(3, 2, 1);
+        this.graph.addEdge(2, 4, 2);
+    }
+
+    @Test
+    void testConcurrentQueriesShareSnapshot() throws Exception {
+        // Arrange
+        List<CompletableFuture<Path<Integer>>> paths = new ArrayList<>();
+
+        // Act
+        try (GraphQueryService<Integer> service = new GraphQueryService<>(this.graph, 8)) {
+            for (int i = 0; i < 100; i++) {
+                paths.add(service.shortestPath(1, 4));
+            }
+            this.graph.removeEdge(3, 2);
+
+            // Assert
+            for (CompletableFuture<Path<Integer>> path : paths) {
+                assertEquals(Arrays.asList(1, 3, 2, 4), path.get().getVertices());
+            }
+            assertEquals(4, service.shortestPaths(1).get().getDistance(4));
+            assertEquals(2, service.breadthFirstSearch(1).get().getDistance(4));
+            assertEquals(8, service.getAvailablePermits());
+        }
+    }
+
+    @Test
+    void testRejectsQueriesBeyondConcurrencyLimit() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        GraphQueryService<Integer> service = new GraphQueryService<>(this.graph.freeze(), 1, 0, 0,
+                TimeUnit.MILLISECONDS);
+        CompletableFuture<Integer> blocked = service.submit(graph -> {
+            awaitQuietly(release);
+            return graph.vertexCount();
+        });
+
+        // Act
+        CompletableFuture<Path<Integer>> rejected = service.shortestPath(1, 4);
+        release.countDown();
+
+        // Assert
+        ExecutionException error = assertThrows(ExecutionException.class, rejected::get);
+        assertTrue(error.getCause() instanceof RejectedExecutionException);
+        assertEquals(4, blocked.get());
+        assertEquals(1, service.getRejectedCount());
+        service.close();
+    }
+
+    @Test
+    void testSubmitDoesNotWaitForAdmission() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        GraphQueryService<Integer> service = new GraphQueryService<>(this.graph.freeze(), 1, 5000, 0,
+                TimeUnit.MILLISECONDS);
+        CompletableFuture<Integer> blocked = service.submit(graph -> {
+            awaitQuietly(release);
+            return graph.vertexCount();
+        });
+
+        // Act
+        CompletableFuture<Path<Integer>> queued = service.shortestPath(1, 4);
+
+        // Assert
+        assertFalse(queued.isDone());
+        release.countDown();
+        assertEquals(Arrays.asList(1, 3, 2, 4), queued.get().getVertices());
+        assertEquals(4, blocked.get());
+        assertEquals(0, service.getRejectedCount());
+        service.close();
+    }
+
+    @Test
+    void testTimesOutSlowQueries() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        GraphQueryService<Integer> service = new GraphQueryService<>(this.graph.freeze(), 4, 0, 20,
+                TimeUnit.MILLISECONDS);
+
+        // Act
+        CompletableFuture<Integer> slow = service.submit(graph -> {
+            awaitQuietly(release);
+            return graph.vertexCount();
+        });
+
+        // Assert
+        ExecutionException error = assertThrows(ExecutionException.class, slow::get);
+        assertTrue(error.getCause() instanceof TimeoutException);
+        assertEquals(1, service.getTimedOutCount());
+        assertEquals(0, service.getCompletedCount());
+        release.countDown();
+        service.close();
+    }
+
+    @Test
+    void testTimedOutQueriesReleaseTheirPermits() throws Exception {
+        // Arrange
+        GraphQueryService<Integer> service = new GraphQueryService<>(this.graph.freeze(), 1, 5000, 20,
+                TimeUnit.MILLISECONDS);
+        CompletableFuture<Integer> stuck = service.submit(graph -> {
+            awaitQuietly(new CountDownLatch(1));
+            return graph.vertexCount();
+        });
+
+        // Act
+        CompletableFuture<ShortestPathTree<Integer>> next = service.shortestPaths(1);
+
+        // Assert
+        assertThrows(ExecutionException.class, stuck::get);
+        assertEquals(4, next.get().getDistance(4));
+        assertEquals(1, service.getCompletedCount());
+        assertEquals(1, service.getTimedOutCount());
+        service.close();
+    }
+
+    @Test
+    void testTimedOutSearchesAreCancelled() {
+        // Arrange
+        CsrGraph<Integer> snapshot = this.graph.freeze();
+        Cancellation cancellation = new Cancellation();
+
+        // Act
+        cancellation.cancel();
+
+        // Assert
+        assertThrows(CancellationException.class, () -> Dijkstra.run(snapshot, 0, cancellation));
+        assertThrows(CancellationException.class, () -> BreadthFirstSearch.run(snapshot, 0, cancellation));
+        assertThrows(CancellationException.class,
+                () -> PointToPointSearch.bidirectional(snapshot, 0, 3, cancellation));
+    }
+
+    @Test
+    void testInterruptedCallersStillSearch() {
+        // Arrange
+        CsrGraph<Integer> snapshot = this.graph.freeze();
+
+        // Act
+        Thread.currentThread().interrupt();
+        try {
+            // Assert
+            assertEquals(4, Dijkstra.run(snapshot, 0).getDistanceById(3));
+            assertEquals(2, BreadthFirstSearch.run(snapshot, 0).getDistanceById(3));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
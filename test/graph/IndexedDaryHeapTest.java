@@ -0,0 +1,94 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedDaryHeapTest {
+    private IndexedDaryHeap heap;
+
+    @BeforeEach
+    void setUp() {
+        this.heap = new IndexedDaryHeap(8);
+    }
+
+    @Test
+    void testPollReturnsElementsInKeyOrder() {
+        // Act
+        this.heap.insert(0, 5);
+        this.heap.insert(1, 3);
+        this.heap.insert(2, 9);
+        this.heap.insert(3, 1);
+        this.heap.insert(4, 7);
+
+        // Assert
+        assertEquals(3, this.heap.poll());
+        assertEquals(1, this.heap.poll());
+        assertEquals(0, this.heap.poll());
+        assertEquals(4, this.heap.poll());
+        assertEquals(2, this.heap.poll());
+        assertTrue(this.heap.isEmpty());
+    }
+
+    @Test
+    void testDecreaseKey() {
+        // Act
+        this.heap.insert(0, 5);
+        this.heap.insert(1, 3);
+        this.heap.insert(2, 9);
+        this.heap.decreaseKey(2, 1);
+
+        // Assert
+        assertEquals(2, this.heap.poll());
+        assertEquals(1, this.heap.poll());
+    }
+
+    @Test
+    void testDecreaseKeyWithAGreaterKey() {
+        // Act
+        this.heap.insert(0, 5);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> this.heap.decreaseKey(0, 6));
+    }
+
+    @Test
+    void testInsertOrDecrease() {
+        // Act
+        this.heap.insert(0, 5);
+
+        // Assert
+        assertTrue(this.heap.insertOrDecrease(1, 4));
+        assertFalse(this.heap.insertOrDecrease(0, 8));
+        assertTrue(this.heap.insertOrDecrease(0, 2));
+        assertEquals(0, this.heap.poll());
+    }
+
+    @Test
+    void testContainsAfterPoll() {
+        // Act
+        this.heap.insert(0, 5);
+        this.heap.insert(1, 3);
+        this.heap.poll();
+
+        // Assert
+        assertFalse(this.heap.contains(1));
+        assertTrue(this.heap.contains(0));
+    }
+
+    @Test
+    void testClear() {
+        // Act
+        this.heap.insert(0, 5);
+        this.heap.insert(1, 3);
+        this.heap.clear();
+
+        // Assert
+        assertTrue(this.heap.isEmpty());
+        assertFalse(this.heap.contains(0));
+        assertThrows(NoSuchElementException.class, () -> this.heap.poll());
+    }
+}
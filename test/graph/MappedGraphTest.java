@@ -0,0 +1,108 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedGraphTest {
+    private GraphAdjacencyList<Integer> graph;
+    private Path path;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.graph = new GraphAdjacencyList<>(false);
+        this.path = Files.createTempFile("graph", ".bin");
+        this.path.toFile().deleteOnExit();
+
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addVertex(3);
+        this.graph.addVertex(4);
+        this.graph.addVertex(5);
+
+        this.graph.addEdge(1, 2, 4);
+        this.graph.addEdge(1, 3, 2);
+        this.graph.addEdge(2, 4, 1);
+        this.graph.addEdge(3, 4, 5);
+        this.graph.addEdge(4, 5, 3);
+    }
+
+    @Test
+    void testWriteAndOpen() throws IOException {
+        // Act
+        this.graph.write(this.path, ValueCodec.INTEGER);
+        MappedGraph<Integer> mapped = MappedGraph.open(this.path, ValueCodec.INTEGER);
+
+        // Assert
+        assertEquals(5, mapped.vertexCount());
+        assertEquals(10, mapped.edgeCount());
+        assertFalse(mapped.isDirected());
+        for (int v = 1; v <= 5; v++) {
+            assertEquals(v, mapped.value(mapped.indexOf(v)));
+        }
+        assertThrows(IllegalArgumentException.class, () -> mapped.indexOf(6));
+    }
+
+    @Test
+    void testShortestPathsOnAMappedGraph() throws IOException {
+        // Act
+        this.graph.write(this.path, ValueCodec.INTEGER);
+        MappedGraph<Integer> mapped = MappedGraph.open(this.path, ValueCodec.INTEGER);
+        ShortestPathTree<Integer> expected = this.graph.shortestPaths(1);
+        ShortestPathTree<Integer> actual = mapped.shortestPaths(1);
+
+        // Assert
+        for (int v = 1; v <= 5; v++) {
+            assertEquals(expected.getDistance(v), actual.getDistance(v));
+        }
+        assertEquals(10, mapped.minimumSpanningTree(1).getTotalWeight());
+    }
+
+    @Test
+    void testDirectedStringGraph() throws IOException {
+        // Arrange
+        GraphAdjacencyList<String> directed = new GraphAdjacencyList<>(true);
+        directed.addVertex("a");
+        directed.addVertex("b");
+        directed.addVertex("c");
+        directed.addEdge("a", "b", 1);
+        directed.addEdge("b", "c", 2);
+        directed.addEdge("a", "c", 5);
+
+        // Act
+        directed.write(this.path, ValueCodec.STRING);
+        MappedGraph<String> mapped = MappedGraph.open(this.path, ValueCodec.STRING);
+        MappedGraph<String> reverse = mapped.reverse();
+
+        // Assert
+        assertTrue(mapped.isDirected());
+        assertEquals(3, mapped.shortestPaths("a").getDistance("c"));
+        assertEquals(2, reverse.endEdge(reverse.indexOf("c")) - reverse.firstEdge(reverse.indexOf("c")));
+        assertEquals(1, mapped.parallelBreadthFirstSearch("a").getDistance("c"));
+    }
+
+    @Test
+    void testMappedGraphIsImmutable() throws IOException {
+        // Act
+        this.graph.write(this.path, ValueCodec.INTEGER);
+        MappedGraph<Integer> mapped = MappedGraph.open(this.path, ValueCodec.INTEGER);
+
+        // Assert
+        assertThrows(UnsupportedOperationException.class, () -> mapped.addVertex(6));
+        assertThrows(UnsupportedOperationException.class, () -> mapped.removeEdge(1, 2));
+    }
+
+    @Test
+    void testOpenWithTheWrongCodec() throws IOException {
+        // Act
+        this.graph.write(this.path, ValueCodec.INTEGER);
+
+        // Assert
+        assertThrows(IOException.class, () -> MappedGraph.open(this.path, ValueCodec.STRING));
+    }
+}
@@ -0,0 +1,109 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+    private GraphAdjacencyList<Integer> graph;
+    private MetricsRegistry metrics;
+
+    @BeforeEach
+    void setUp() {
+        this.graph = new GraphAdjacencyList<>(false);
+        this.metrics = new MetricsRegistry("graph.test");
+
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addVertex(3);
+        this.graph.addVertex(4);
+
+        this.graph.addEdge(1, 2, 1);
+        this.graph.addEdge(2, 3, 2);
+        this.graph.addEdge(1, 3, 5);
+    }
+
+    @Test
+    void testRecordsWorkCounters() {
+        // Act
+        GraphMetrics.install(this.metrics);
+        try {
+            this.graph.shortestPaths(1);
+            this.graph.breadthFirstSearch(1);
+            this.graph.addEdge(3, 4, 1);
+        } finally {
+            GraphMetrics.uninstall();
+        }
+
+        // Assert
+        OperationStats dijkstra = this.metrics.get(GraphOperation.DIJKSTRA);
+        assertEquals(1, dijkstra.getCount());
+        assertEquals(3, dijkstra.getVertices());
+        assertEquals(3, dijkstra.getEdges());
+        assertEquals(7, dijkstra.getHeapOperations());
+        assertEquals(2, dijkstra.getPeakQueue());
+        assertEquals(100, dijkstra.getAllocatedBytes());
+        assertTrue(dijkstra.getP99Nanos() <= dijkstra.getMaxNanos());
+
+        OperationStats bfs = this.metrics.get(GraphOperation.BREADTH_FIRST_SEARCH);
+        assertEquals(3, bfs.getVertices());
+        assertEquals(6, bfs.getEdges());
+        assertEquals(1, this.metrics.get(GraphOperation.ADD_EDGE).getCount());
+    }
+
+    @Test
+    void testNothingRecordedWhenUninstalled() {
+        // Act
+        this.graph.shortestPaths(1);
+        this.graph.addEdge(3, 4, 1);
+
+        // Assert
+        assertSame(GraphMetrics.NOOP, GraphMetrics.installed());
+        for (OperationStats stats : this.metrics.getAll()) {
+            assertEquals(0, stats.getCount());
+        }
+    }
+
+    @Test
+    void testPercentilesFollowHistogram() {
+        // Arrange
+        OperationStats stats = this.metrics.get(GraphOperation.PRIM);
+        for (int i = 0; i < 99; i++) {
+            stats.record(100, 0, 0, 0, 0, 0);
+        }
+
+        // Act
+        stats.record(1000000, 0, 0, 0, 0, 0);
+
+        // Assert
+        assertEquals(127, stats.getP50Nanos());
+        assertEquals(127, stats.getP99Nanos());
+        assertEquals(1000000, stats.getPercentileNanos(1));
+        assertEquals(10099, stats.getMeanNanos());
+        assertThrows(IllegalArgumentException.class, () -> stats.getPercentileNanos(2));
+    }
+
+    @Test
+    void testExportsOperationsThroughJmx() throws Exception {
+        // Arrange
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = this.metrics.objectName(GraphOperation.DIJKSTRA);
+        this.metrics.record(GraphOperation.DIJKSTRA, 500, 4, 3, 7, 2, 100);
+
+        // Act
+        this.metrics.registerMBeans();
+        try {
+            // Assert
+            assertEquals(1L, server.getAttribute(name, "Count"));
+            assertEquals(500L, server.getAttribute(name, "MaxNanos"));
+        } finally {
+            this.metrics.unregisterMBeans();
+        }
+        assertFalse(server.isRegistered(name));
+    }
+}
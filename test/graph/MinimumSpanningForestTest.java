@@ -0,0 +1,128 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MinimumSpanningForestTest {
+    private GraphAdjacencyList<Integer> graph;
+
+    @BeforeEach
+    void setUp() {
+        this.graph = new GraphAdjacencyList<>(false);
+
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addVertex(3);
+        this.graph.addVertex(4);
+        this.graph.addVertex(5);
+        this.graph.addVertex(6);
+        this.graph.addVertex(7);
+
+        this.graph.addEdge(1, 2, 4);
+        this.graph.addEdge(1, 3, 2);
+        this.graph.addEdge(2, 4, 1);
+        this.graph.addEdge(3, 4, 5);
+        this.graph.addEdge(4, 5, 3);
+        this.graph.addEdge(6, 7, 9);
+        this.graph.addEdge(7, 7, 1);
+    }
+
+    @Test
+    void testMinimumSpanningForest() {
+        // Act
+        MinimumSpanningForest<Integer> forest = this.graph.minimumSpanningForest();
+
+        // Assert
+        assertEquals(5, forest.size());
+        assertEquals(2, forest.getTreeCount());
+        assertEquals(19, forest.getTotalWeight());
+    }
+
+    @Test
+    void testKruskal() {
+        // Act
+        MinimumSpanningForest<Integer> forest = Kruskal.run(this.graph.freeze());
+
+        // Assert
+        assertEquals(5, forest.size());
+        assertEquals(19, forest.getTotalWeight());
+        assertEquals(1, forest.getWeight(0));
+        assertEquals(2, forest.getWeight(1));
+    }
+
+    @Test
+    void testNegativeWeightsAgreeWithPrim() {
+        // Arrange
+        GraphAdjacencyList<Integer> triangle = new GraphAdjacencyList<>(false);
+        triangle.addVertex(1);
+        triangle.addVertex(2);
+        triangle.addVertex(3);
+        triangle.addEdge(1, 2, -5);
+        triangle.addEdge(2, 3, 1);
+        triangle.addEdge(1, 3, 2);
+
+        // Act
+        long expected = Prim.run(triangle.freeze(), 0).getTotalWeight();
+        MinimumSpanningForest<Integer> kruskal = Kruskal.run(triangle.freeze());
+        MinimumSpanningForest<Integer> boruvka = Boruvka.run(triangle.freeze(), new ForkJoinPool(2));
+
+        // Assert
+        assertEquals(-4, expected);
+        assertEquals(expected, kruskal.getTotalWeight());
+        assertEquals(expected, boruvka.getTotalWeight());
+        assertEquals(-5, kruskal.getWeight(0));
+    }
+
+    @Test
+    void testBoruvkaAgreesWithKruskal() {
+        // Arrange
+        GraphAdjacencyList<Integer> random = new GraphAdjacencyList<>(false);
+        Random rng = new Random(3);
+        int n = 4000;
+        for (int i = 0; i < n; i++) {
+            random.addVertex(i);
+        }
+        for (int i = 0; i < n * 3; i++) {
+            try {
+                random.addEdge(rng.nextInt(n), rng.nextInt(n), rng.nextInt(10));
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+
+        // Act
+        MinimumSpanningForest<Integer> expected = Kruskal.run(random.freeze());
+        MinimumSpanningForest<Integer> actual = Boruvka.run(random.freeze(), new ForkJoinPool(4));
+
+        // Assert
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.getTotalWeight(), actual.getTotalWeight());
+        DisjointSet components = new DisjointSet(n);
+        for (int e = 0; e < actual.size(); e++) {
+            assertTrue(components.union(actual.getSourceById(e), actual.getTargetById(e)));
+        }
+    }
+
+    @Test
+    void testDisjointSet() {
+        // Arrange
+        DisjointSet set = new DisjointSet(5);
+
+        // Act
+        boolean first = set.union(0, 1);
+        boolean second = set.union(3, 4);
+        boolean again = set.union(1, 0);
+
+        // Assert
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(again);
+        assertTrue(set.connected(0, 1));
+        assertFalse(set.connected(1, 3));
+        assertEquals(set.find(3), set.find(4));
+    }
+}
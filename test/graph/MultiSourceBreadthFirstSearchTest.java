@@ -0,0 +1,115 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiSourceBreadthFirstSearchTest {
+    private GraphAdjacencyList<Integer> graph;
+
+    @BeforeEach
+    void setUp() {
+        this.graph = new GraphAdjacencyList<>(false);
+
+        for (int v = 1; v <= 6; v++) {
+            this.graph.addVertex(v);
+        }
+
+        this.graph.addEdge(1, 2, 1);
+        this.graph.addEdge(2, 3, 1);
+        this.graph.addEdge(3, 4, 1);
+        this.graph.addEdge(4, 5, 1);
+    }
+
+    @Test
+    void testDistancesFromEachSource() {
+        // Act
+        MultiSourceBFSResult<Integer> result = this.graph.multiSourceBreadthFirstSearch(Arrays.asList(1, 5));
+
+        // Assert
+        assertEquals(2, result.getSourceCount());
+        assertEquals(3, result.getDistance(1, 4));
+        assertEquals(1, result.getDistance(5, 4));
+        assertEquals(1, result.getNearestDistance(4));
+        assertEquals(2, result.getNearestDistance(3));
+        assertFalse(result.isReachable(6));
+        assertThrows(IllegalArgumentException.class, () -> result.getDistance(2, 4));
+    }
+
+    @Test
+    void testDepthLimitStopsExpansion() {
+        // Act
+        MultiSourceBFSResult<Integer> result = this.graph.multiSourceBreadthFirstSearch(Collections.singleton(1), 2);
+
+        // Assert
+        assertEquals(2, result.getDistance(1, 3));
+        assertEquals(Integer.MAX_VALUE, result.getDistance(1, 4));
+        assertEquals(Arrays.asList(1, 2, 3), result.getVerticesWithin(2));
+        assertTrue(result.isReachable(1, 3));
+        assertFalse(result.isReachable(1, 4));
+        assertThrows(IllegalArgumentException.class,
+                () -> this.graph.multiSourceBreadthFirstSearch(Collections.singleton(1), -1));
+    }
+
+    @Test
+    void testNearestDistanceAcrossBatches() {
+        // Arrange
+        GraphAdjacencyList<Integer> path = new GraphAdjacencyList<>(false);
+        for (int v = 0; v < 200; v++) {
+            path.addVertex(v);
+            if (v > 0) {
+                path.addEdge(v - 1, v, 1);
+            }
+        }
+        List<Integer> sources = new ArrayList<>();
+        for (int v = 0; v < 200; v += 3) {
+            sources.add(v);
+        }
+
+        // Act
+        MultiSourceBFSResult<Integer> result = path.multiSourceBreadthFirstSearch(sources);
+
+        // Assert
+        for (int v = 0; v < 200; v++) {
+            assertEquals(Math.min(v % 3, 3 - v % 3), result.getNearestDistance(v));
+        }
+        assertEquals(198, result.getDistance(0, 198));
+    }
+
+    @Test
+    void testMatchesBreadthFirstSearchAcrossBatches() {
+        // Arrange
+        GraphAdjacencyList<Integer> graph = new GraphAdjacencyList<>(true);
+        Random random = new Random(11);
+        for (int v = 0; v < 300; v++) {
+            graph.addVertex(v);
+        }
+        for (int i = 0; i < 900; i++) {
+            int u = random.nextInt(300);
+            int v = random.nextInt(300);
+            if (!graph.getVertices().get(graph.indexOf(u)).getAdjacencyList().contains(graph.indexOf(v))) {
+                graph.addEdge(u, v, 1);
+            }
+        }
+        List<Integer> sources = new ArrayList<>();
+        for (int v = 0; v < 300; v += 2) {
+            sources.add(v);
+        }
+
+        // Act
+        MultiSourceBFSResult<Integer> result = graph.multiSourceBreadthFirstSearch(sources);
+
+        // Assert
+        assertEquals(150, result.getSourceCount());
+        for (int i = 0; i < sources.size(); i++) {
+            BFSResult<Integer> expected = graph.breadthFirstSearch(sources.get(i));
+            for (int v = 0; v < 300; v++) {
+                assertEquals(expected.getDistance(v), result.getDistance(sources.get(i), v));
+                assertEquals(expected.getDistance(v) != Integer.MAX_VALUE, result.isReachableById(i, v));
+            }
+        }
+    }
+}
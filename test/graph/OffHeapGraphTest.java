@@ -0,0 +1,127 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapGraphTest {
+    private OffHeapGraph<Integer> graph;
+
+    @BeforeEach
+    void setUp() {
+        this.graph = new OffHeapGraph<>(false);
+
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addVertex(3);
+        this.graph.addVertex(4);
+        this.graph.addVertex(5);
+
+        this.graph.addEdge(1, 2, 4);
+        this.graph.addEdge(1, 3, 2);
+        this.graph.addEdge(2, 4, 1);
+        this.graph.addEdge(3, 4, 5);
+        this.graph.addEdge(4, 5, 3);
+    }
+
+    @Test
+    void testAddEdges() {
+        // Assert
+        assertEquals(5, this.graph.vertexCount());
+        assertEquals(10, this.graph.edgeCount());
+        assertEquals(8, this.graph.shortestPaths(1).getDistance(5));
+        assertEquals(10, this.graph.minimumSpanningTree(1).getTotalWeight());
+        assertThrows(IllegalArgumentException.class, () -> this.graph.addEdge(2, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> this.graph.addEdge(1, 6, 1));
+    }
+
+    @Test
+    void testRemoveEdge() {
+        // Act
+        this.graph.removeEdge(4, 2);
+
+        // Assert
+        assertEquals(8, this.graph.edgeCount());
+        assertEquals(10, this.graph.shortestPaths(1).getDistance(5));
+        assertThrows(IllegalArgumentException.class, () -> this.graph.removeEdge(2, 4));
+    }
+
+    @Test
+    void testRemoveVertex() {
+        // Act
+        this.graph.removeVertex(3);
+
+        // Assert
+        assertEquals(4, this.graph.vertexCount());
+        assertEquals(6, this.graph.edgeCount());
+        assertFalse(this.graph.containsVertex(3));
+        assertEquals(8, this.graph.shortestPaths(1).getDistance(5));
+        assertEquals(4, this.graph.shortestPaths(5).getDistance(2));
+    }
+
+    @Test
+    void testCloseReleasesTheGraph() {
+        // Arrange
+        OffHeapGraph<Integer> offHeap = new OffHeapGraph<>(false);
+        for (int v = 0; v < 5000; v++) {
+            offHeap.addVertex(v);
+            if (v > 0) {
+                offHeap.addEdge(v - 1, v, 1);
+            }
+        }
+
+        // Act
+        offHeap.close();
+
+        // Assert
+        assertEquals(0, offHeap.vertexCount());
+        assertEquals(0, offHeap.edgeCount());
+        assertFalse(offHeap.containsVertex(1));
+        offHeap.addVertex(1);
+        offHeap.addVertex(2);
+        offHeap.addEdge(1, 2, 3);
+        assertEquals(3, offHeap.shortestPaths(1).getDistance(2));
+    }
+
+    @Test
+    void testDirectedGraphMatchesGraphAdjacencyList() {
+        // Arrange
+        OffHeapGraph<Integer> offHeap = new OffHeapGraph<>(true);
+        GraphAdjacencyList<Integer> onHeap = new GraphAdjacencyList<>(true);
+        Random random = new Random(7);
+        for (int v = 0; v < 200; v++) {
+            offHeap.addVertex(v);
+            onHeap.addVertex(v);
+        }
+        for (int i = 0; i < 2000; i++) {
+            int u = random.nextInt(200);
+            int v = random.nextInt(200);
+            if (!onHeap.getVertices().get(onHeap.indexOf(u)).getAdjacencyList().contains(onHeap.indexOf(v))) {
+                int weight = random.nextInt(50);
+                offHeap.addEdge(u, v, weight);
+                onHeap.addEdge(u, v, weight);
+            }
+        }
+
+        // Act
+        for (int v = 0; v < 200; v += 3) {
+            offHeap.removeVertex(v);
+            onHeap.removeVertex(v);
+        }
+
+        // Assert
+        assertEquals(onHeap.freeze().edgeCount(), offHeap.edgeCount());
+        for (int source = 1; source < 200; source += 3) {
+            ShortestPathTree<Integer> expected = onHeap.shortestPaths(source);
+            ShortestPathTree<Integer> actual = offHeap.shortestPaths(source);
+            for (int v = 1; v < 200; v += 3) {
+                assertEquals(expected.getDistance(v), actual.getDistance(v));
+            }
+            assertEquals(onHeap.parallelBreadthFirstSearch(source).getDistance(2),
+                    offHeap.parallelBreadthFirstSearch(source).getDistance(2));
+        }
+    }
+}
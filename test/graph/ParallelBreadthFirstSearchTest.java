@@ -0,0 +1,68 @@
+package graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelBreadthFirstSearchTest {
+
+    @Test
+    void testParallelBreadthFirstSearch() {
+        // Arrange
+        GraphAdjacencyList<Integer> graph = new GraphAdjacencyList<>(false);
+
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addVertex(3);
+        graph.addVertex(4);
+        graph.addVertex(5);
+        graph.addVertex(6);
+
+        graph.addEdge(1, 2, 4);
+        graph.addEdge(1, 3, 2);
+        graph.addEdge(2, 4, 1);
+        graph.addEdge(3, 4, 5);
+        graph.addEdge(4, 5, 3);
+
+        // Act
+        BFSResult<Integer> result = graph.parallelBreadthFirstSearch(1);
+
+        // Assert
+        assertEquals(3, result.getDistance(5));
+        assertEquals(4, result.getParent(5));
+        assertFalse(result.isReachable(6));
+    }
+
+    @Test
+    void testAgreesWithBreadthFirstSearch() {
+        // Arrange
+        GraphAdjacencyList<Integer> graph = new GraphAdjacencyList<>(true);
+        Random rng = new Random(11);
+        int n = 5000;
+
+        for (int i = 0; i < n; i++) {
+            graph.addVertex(i);
+        }
+        for (int i = 0; i < n * 10; i++) {
+            try {
+                graph.addEdge(rng.nextInt(n), rng.nextInt(n), 1);
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+
+        // Act
+        BFSResult<Integer> expected = graph.breadthFirstSearch(0);
+        BFSResult<Integer> actual = ParallelBreadthFirstSearch.run(graph.freeze(), 0, new ForkJoinPool(4));
+
+        // Assert
+        for (int v = 0; v < n; v++) {
+            assertEquals(expected.getDistanceById(v), actual.getDistanceById(v));
+            if (v != 0 && actual.getDistanceById(v) != Integer.MAX_VALUE) {
+                assertEquals(actual.getDistanceById(v) - 1, expected.getDistanceById(actual.getParentById(v)));
+            }
+        }
+    }
+}
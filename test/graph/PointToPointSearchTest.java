@@ -0,0 +1,112 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointToPointSearchTest {
+    private GraphAdjacencyList<Integer> graph;
+
+    @BeforeEach
+    void setUp() {
+        this.graph = new GraphAdjacencyList<>(true);
+
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addVertex(3);
+        this.graph.addVertex(4);
+        this.graph.addVertex(5);
+
+        this.graph.addEdge(1, 2, 4);
+        this.graph.addEdge(1, 3, 2);
+        this.graph.addEdge(2, 4, 1);
+        this.graph.addEdge(3, 4, 5);
+        this.graph.addEdge(4, 5, 3);
+        this.graph.addEdge(5, 1, 3);
+    }
+
+    @Test
+    void testBidirectional() {
+        // Act
+        Path<Integer> path = this.graph.shortestPath(1, 5);
+
+        // Assert
+        assertEquals(8, path.getCost());
+        assertEquals(Arrays.asList(1, 2, 4, 5), path.getVertices());
+    }
+
+    @Test
+    void testBidirectionalFollowsEdgeDirection() {
+        // Act
+        Path<Integer> path = this.graph.shortestPath(5, 4);
+
+        // Assert
+        assertEquals(8, path.getCost());
+        assertEquals(Arrays.asList(5, 1, 2, 4), path.getVertices());
+    }
+
+    @Test
+    void testSameSourceAndTarget() {
+        // Act
+        Path<Integer> path = this.graph.shortestPath(3, 3);
+
+        // Assert
+        assertEquals(0, path.getCost());
+        assertEquals(Arrays.asList(3), path.getVertices());
+    }
+
+    @Test
+    void testUnreachableTarget() {
+        // Act
+        this.graph.addVertex(6);
+        Path<Integer> path = this.graph.shortestPath(1, 6);
+
+        // Assert
+        assertFalse(path.isFound());
+    }
+
+    @Test
+    void testAStar() {
+        // Act
+        Path<Integer> path = this.graph.shortestPath(1, 5, (vertex, target) -> 0);
+
+        // Assert
+        assertEquals(8, path.getCost());
+        assertEquals(Arrays.asList(1, 2, 4, 5), path.getVertices());
+    }
+
+    @Test
+    void testAgreesWithDijkstraOnARandomGraph() {
+        // Arrange
+        GraphAdjacencyList<Integer> random = new GraphAdjacencyList<>(true);
+        Random rng = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            random.addVertex(i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            int u = rng.nextInt(200);
+            int v = rng.nextInt(200);
+            try {
+                random.addEdge(u, v, 1 + rng.nextInt(50));
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+
+        // Act
+        ShortestPathTree<Integer> tree = random.shortestPaths(0);
+
+        // Assert
+        for (int target = 0; target < 200; target++) {
+            Path<Integer> path = random.shortestPath(0, target);
+            assertEquals(tree.isReachable(target), path.isFound());
+            if (path.isFound()) {
+                assertEquals(tree.getDistance(target), path.getCost());
+                assertEquals(tree.getDistance(target), random.shortestPath(0, target, (vertex, goal) -> 0).getCost());
+            }
+        }
+    }
+}
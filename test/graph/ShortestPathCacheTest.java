@@ -0,0 +1,99 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShortestPathCacheTest {
+    private GraphAdjacencyList<Integer> graph;
+    private ShortestPathCache<Integer> cache;
+
+    @BeforeEach
+    void setUp() {
+        this.graph = new GraphAdjacencyList<>(true);
+
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addVertex(3);
+        this.graph.addVertex(4);
+
+        this.graph.addEdge(1, 2, 4);
+        this.graph.addEdge(1, 3, 1);
+        this.graph.addEdge(3, 2, 1);
+        this.graph.addEdge(2, 4, 2);
+
+        this.cache = new ShortestPathCache<>(this.graph, 2);
+    }
+
+    @Test
+    void testRepeatedQueriesHitCache() {
+        // Act
+        ShortestPathTree<Integer> first = this.cache.shortestPaths(1);
+        ShortestPathTree<Integer> second = this.cache.shortestPaths(1);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(4, this.cache.getDistance(1, 4));
+        assertEquals(Arrays.asList(1, 3, 2, 4), this.cache.shortestPath(1, 4));
+        assertEquals(3, this.cache.getHitCount());
+        assertEquals(1, this.cache.getMissCount());
+        assertEquals(0.75, this.cache.getHitRate());
+    }
+
+    @Test
+    void testMutationInvalidatesEntries() {
+        // Arrange
+        long version = this.graph.getVersion();
+        this.cache.shortestPaths(1);
+        this.cache.shortestPaths(2);
+
+        // Act
+        this.graph.removeEdge(3, 2);
+
+        // Assert
+        assertTrue(this.graph.getVersion() > version);
+        assertEquals(6, this.cache.getDistance(1, 4));
+        assertEquals(1, this.cache.size());
+        assertEquals(1, this.cache.getInvalidationCount());
+        assertEquals(3, this.cache.getMissCount());
+    }
+
+    @Test
+    void testLeastRecentlyUsedSourceIsEvicted() {
+        // Arrange
+        this.cache.shortestPaths(1);
+        this.cache.shortestPaths(2);
+        this.cache.shortestPaths(1);
+
+        // Act
+        this.cache.shortestPaths(3);
+        this.cache.shortestPaths(1);
+        this.cache.shortestPaths(2);
+
+        // Assert
+        assertEquals(2, this.cache.size());
+        assertEquals(2, this.cache.getEvictionCount());
+        assertEquals(2, this.cache.getHitCount());
+        assertEquals(4, this.cache.getMissCount());
+    }
+
+    @Test
+    void testWeightBoundLimitsCachedVertices() {
+        // Arrange
+        ShortestPathCache<Integer> cache = new ShortestPathCache<>(this.graph, 10, 8);
+
+        // Act
+        cache.shortestPaths(1);
+        cache.shortestPaths(2);
+        cache.shortestPaths(3);
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertEquals(8, cache.getWeight());
+        assertEquals(1, cache.getEvictionCount());
+        assertThrows(IllegalArgumentException.class, () -> new ShortestPathCache<>(this.graph, 0));
+    }
+}
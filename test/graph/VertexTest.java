@@ -0,0 +1,63 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VertexTest {
+    private GraphAdjacencyList<Integer> graph;
+
+    @BeforeEach
+    void setUp() {
+        this.graph = new GraphAdjacencyList<>(false);
+
+        this.graph.addVertex(1);
+        this.graph.addVertex(2);
+        this.graph.addVertex(3);
+
+        this.graph.addEdge(1, 2, 4);
+        this.graph.addEdge(1, 3, 7);
+    }
+
+    @Test
+    void testStandaloneVerticesKeepDistinctNeighbours() {
+        // Arrange
+        Vertex<String> x = new Vertex<>("x");
+        Vertex<String> y = new Vertex<>("y");
+        Vertex<String> z = new Vertex<>("z");
+
+        // Act
+        x.addAdjacent(y, 3);
+        x.addAdjacent(z, 5);
+        x.addAdjacent(y, 2);
+        x.removeAdjacent(z);
+        x.addAdjacent(z, 9);
+
+        // Assert
+        assertEquals(2, x.getAdjacent().size());
+        assertEquals(Integer.valueOf(2), x.getAdjacent().get(y));
+        assertEquals(Integer.valueOf(9), x.getAdjacent().get(z));
+        assertEquals(Arrays.asList(y, z), new ArrayList<>(x.getAdjacent().keySet()));
+    }
+
+    @Test
+    void testGraphVerticesRejectForeignAndRemovedNeighbours() {
+        // Arrange
+        Vertex<Integer> one = this.graph.getVertices().get(0);
+        Vertex<Integer> three = this.graph.getVertices().get(2);
+
+        // Act
+        this.graph.removeVertex(3);
+
+        // Assert
+        assertEquals(1, one.getAdjacent().size());
+        assertNull(one.getAdjacent().get(three));
+        assertFalse(one.getAdjacent().containsKey(three));
+        assertEquals(Integer.valueOf(4), one.getAdjacent().get(this.graph.getVertices().get(1)));
+        assertThrows(IllegalArgumentException.class, () -> one.addAdjacent(new Vertex<>(2), 1));
+        assertThrows(IllegalArgumentException.class, () -> one.addAdjacent(three, 1));
+    }
+}
@@ -0,0 +1,43 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VisitMarksTest {
+    private VisitMarks marks;
+
+    @BeforeEach
+    void setUp() {
+        this.marks = new VisitMarks(8);
+    }
+
+    @Test
+    void testMark() {
+        // Act
+        boolean first = this.marks.mark(3);
+        boolean second = this.marks.mark(3);
+
+        // Assert
+        assertTrue(first);
+        assertFalse(second);
+        assertTrue(this.marks.isMarked(3));
+        assertFalse(this.marks.isMarked(4));
+    }
+
+    @Test
+    void testResetClearsEveryMark() {
+        // Act
+        for (int v = 0; v < 8; v++) {
+            this.marks.mark(v);
+        }
+        this.marks.reset();
+
+        // Assert
+        for (int v = 0; v < 8; v++) {
+            assertFalse(this.marks.isMarked(v));
+        }
+        assertTrue(this.marks.mark(5));
+    }
+}